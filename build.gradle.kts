@@ -4,9 +4,11 @@
 
 plugins {
   java
+  `java-test-fixtures`
   `maven-publish`
   signing
   id("com.diffplug.spotless") version "6.25.0"
+  id("me.champeau.jmh") version "0.7.2"
 }
 
 ///////////////////////////////////////////////////////////////////////////////
@@ -24,6 +26,33 @@ dependencies {
   testImplementation("org.junit.jupiter:junit-jupiter")
   testRuntimeOnly("org.junit.platform:junit-platform-launcher")
   testImplementation("org.assertj:assertj-core:3.25.3")
+
+  testFixturesImplementation("org.eclipse.keypop:keypop-reader-java-api:2.1.0")
+
+  jmhImplementation(sourceSets["testFixtures"].output)
+  // Implementation of the API to be measured by the benchmarks (e.g.
+  // '-PjmhImplementation=group:artifact:version')
+  (project.findProperty("jmhImplementation") as String?)?.let { jmhImplementation(it) }
+}
+
+///////////////////////////////////////////////////////////////////////////////
+//  BENCHMARK CONFIGURATION
+///////////////////////////////////////////////////////////////////////////////
+
+sourceSets {
+  named("jmh") {
+    // Sources of the StorageCardBenchmarkEnvironment provider of the measured implementation
+    (project.findProperty("jmhEnvironmentDir") as String?)?.let {
+      java.srcDir(it)
+      resources.srcDir(it)
+    }
+  }
+}
+
+jmh {
+  jmhVersion.set("1.37")
+  profilers.add("gc")
+  resultFormat.set("JSON")
 }
 
 ///////////////////////////////////////////////////////////////////////////////
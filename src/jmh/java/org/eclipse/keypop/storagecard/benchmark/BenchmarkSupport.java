@@ -0,0 +1,73 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.benchmark;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+
+/** Utility methods shared by the benchmarks. */
+final class BenchmarkSupport {
+
+  /** Private constructor */
+  private BenchmarkSupport() {}
+
+  /**
+   * Loads the benchmark environment registered on the classpath.
+   *
+   * @return A not null reference.
+   * @throws IllegalStateException If no environment is registered.
+   */
+  static StorageCardBenchmarkEnvironment loadEnvironment() {
+    Iterator<StorageCardBenchmarkEnvironment> iterator =
+        ServiceLoader.load(StorageCardBenchmarkEnvironment.class).iterator();
+    if (!iterator.hasNext()) {
+      throw new IllegalStateException(
+          "No StorageCardBenchmarkEnvironment found. Provide one using the 'jmhImplementation' and"
+              + " 'jmhEnvironmentDir' project properties.");
+    }
+    return iterator.next();
+  }
+
+  /**
+   * Prepares the reading of the whole memory of the card, including the Mifare Classic sector
+   * authentications when needed.
+   *
+   * @param transactionManager The transaction manager.
+   * @param card The card.
+   * @param keyProvider The provider of the Mifare Classic keys.
+   */
+  static void prepareReadAllBlocks(
+      StorageCardTransactionManager transactionManager,
+      StorageCard card,
+      MifareClassicKeyProviderSpi keyProvider) {
+    ProductType productType = card.getProductType();
+    if (!productType.hasAuthentication()) {
+      transactionManager.prepareReadBlocks(0, productType.getBlockCount() - 1);
+      return;
+    }
+    for (int sectorNumber = 0; sectorNumber < productType.getSectorCount(); sectorNumber++) {
+      transactionManager
+          .prepareMifareClassicAuthenticate(
+              productType.getFirstBlockOfSector(sectorNumber),
+              MifareClassicKeyType.KEY_A,
+              keyProvider)
+          .prepareReadBlocks(
+              productType.getFirstBlockOfSector(sectorNumber),
+              productType.getSectorTrailerBlockAddress(sectorNumber));
+    }
+  }
+}
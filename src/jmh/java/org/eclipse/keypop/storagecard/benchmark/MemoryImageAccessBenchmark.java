@@ -0,0 +1,80 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures the access to a fully loaded memory image of a card. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoryImageAccessBenchmark {
+
+  @Param({"MIFARE_ULTRALIGHT", "MIFARE_CLASSIC_1K", "MIFARE_CLASSIC_4K", "ST25_SRT512"})
+  public ProductType productType;
+
+  private StorageCard card;
+  private int lastBlockAddress;
+  private byte[] destination;
+
+  @Setup
+  public void setUp() {
+    StorageCardBenchmarkEnvironment environment = BenchmarkSupport.loadEnvironment();
+    CardReader reader = environment.getCardReader(productType);
+    card = environment.selectCard(reader, productType);
+    StorageCardTransactionManager transactionManager =
+        environment.getStorageCardApiFactory().createStorageCardTransactionManager(reader, card);
+    BenchmarkSupport.prepareReadAllBlocks(
+        transactionManager, card, environment.getMifareClassicKeyProvider());
+    transactionManager.processCommands(ChannelControl.KEEP_OPEN);
+    lastBlockAddress = productType.getBlockCount() - 1;
+    destination = new byte[productType.getBlockCount() * productType.getBlockSize()];
+  }
+
+  @Benchmark
+  public byte[] getBlocks() {
+    return card.getBlocks(0, lastBlockAddress);
+  }
+
+  @Benchmark
+  public void getEachBlock(Blackhole blackhole) {
+    for (int blockAddress = 0; blockAddress <= lastBlockAddress; blockAddress++) {
+      blackhole.consume(card.getBlock(blockAddress));
+    }
+  }
+
+  @Benchmark
+  public byte[] copyBlocksInto() {
+    card.copyBlocksInto(0, lastBlockAddress, destination, 0);
+    return destination;
+  }
+
+  @Benchmark
+  public ByteBuffer getBlocksAsReadOnlyBuffer() {
+    return card.getBlocksAsReadOnlyBuffer(0, lastBlockAddress);
+  }
+}
@@ -0,0 +1,99 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a typical gate workload reading scattered blocks spread over several Mifare Classic
+ * sectors, either with one explicit authentication per block or with a planned block set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MixedAuthenticateReadBenchmark {
+
+  private static final int[] BLOCK_ADDRESSES = {4, 5, 6, 8, 9, 10, 13, 14, 20, 21, 22, 24, 25, 26};
+
+  @Param({"MIFARE_CLASSIC_1K", "MIFARE_CLASSIC_4K"})
+  public ProductType productType;
+
+  private StorageCardApiFactory factory;
+  private CardReader reader;
+  private StorageCard card;
+  private MifareClassicKeyProviderSpi keyProvider;
+  private final byte[][] keys = new byte[BLOCK_ADDRESSES.length][];
+
+  @Setup
+  public void setUp() {
+    StorageCardBenchmarkEnvironment environment = BenchmarkSupport.loadEnvironment();
+    factory = environment.getStorageCardApiFactory();
+    reader = environment.getCardReader(productType);
+    card = environment.selectCard(reader, productType);
+    keyProvider = environment.getMifareClassicKeyProvider();
+  }
+
+  @Benchmark
+  public StorageCard authenticateAndReadEachBlock() {
+    StorageCardTransactionManager transactionManager =
+        factory.createStorageCardTransactionManager(reader, card);
+    try {
+      for (int i = 0; i < BLOCK_ADDRESSES.length; i++) {
+        int blockAddress = BLOCK_ADDRESSES[i];
+        keys[i] =
+            keyProvider.getKey(
+                card.getUID(),
+                productType.getSectorOfBlock(blockAddress),
+                MifareClassicKeyType.KEY_A);
+        transactionManager
+            .prepareMifareClassicAuthenticate(blockAddress, MifareClassicKeyType.KEY_A, keys[i])
+            .prepareReadBlock(blockAddress);
+      }
+      transactionManager.processCommands(ChannelControl.KEEP_OPEN);
+    } finally {
+      // The caller owns the keys returned by the provider and must zero them after use.
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] != null) {
+          Arrays.fill(keys[i], (byte) 0);
+          keys[i] = null;
+        }
+      }
+    }
+    return card;
+  }
+
+  @Benchmark
+  public StorageCard readBlockSet() {
+    factory
+        .createStorageCardTransactionManager(reader, card)
+        .prepareMifareClassicReadBlockSet(MifareClassicKeyType.KEY_A, keyProvider, BLOCK_ADDRESSES)
+        .processCommands(ChannelControl.KEEP_OPEN);
+    return card;
+  }
+}
@@ -0,0 +1,70 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Measures the preparation and processing of the reading of a full card memory image. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadBlocksBenchmark {
+
+  @Param({"MIFARE_CLASSIC_4K", "ST25_SRT512"})
+  public ProductType productType;
+
+  private StorageCardApiFactory factory;
+  private CardReader reader;
+  private StorageCard card;
+  private MifareClassicKeyProviderSpi keyProvider;
+
+  @Setup
+  public void setUp() {
+    StorageCardBenchmarkEnvironment environment = BenchmarkSupport.loadEnvironment();
+    factory = environment.getStorageCardApiFactory();
+    reader = environment.getCardReader(productType);
+    card = environment.selectCard(reader, productType);
+    keyProvider = environment.getMifareClassicKeyProvider();
+  }
+
+  @Benchmark
+  public StorageCardTransactionManager prepareReadAllBlocks() {
+    StorageCardTransactionManager transactionManager =
+        factory.createStorageCardTransactionManager(reader, card);
+    BenchmarkSupport.prepareReadAllBlocks(transactionManager, card, keyProvider);
+    return transactionManager;
+  }
+
+  @Benchmark
+  public StorageCard prepareAndProcessReadAllBlocks() {
+    StorageCardTransactionManager transactionManager =
+        factory.createStorageCardTransactionManager(reader, card);
+    BenchmarkSupport.prepareReadAllBlocks(transactionManager, card, keyProvider);
+    transactionManager.processCommands(ChannelControl.KEEP_OPEN);
+    return card;
+  }
+}
@@ -0,0 +1,60 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.benchmark;
+
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+
+/**
+ * Provides the implementation of the Storage Card API to be measured by the benchmarks, together
+ * with a simulated card reader.
+ *
+ * <p>An implementation of this interface must be registered as a {@link java.util.ServiceLoader}
+ * provider on the classpath of the benchmarks (see {@code jmhImplementation} and {@code
+ * jmhEnvironmentDir} project properties).
+ */
+public interface StorageCardBenchmarkEnvironment {
+
+  /**
+   * Returns the factory of the implementation to be measured.
+   *
+   * @return A not null reference.
+   */
+  StorageCardApiFactory getStorageCardApiFactory();
+
+  /**
+   * Returns a simulated reader holding a card of the provided product type.
+   *
+   * @param productType The product type of the simulated card.
+   * @return A not null reference.
+   */
+  CardReader getCardReader(ProductType productType);
+
+  /**
+   * Selects the card present in the provided reader.
+   *
+   * @param reader The reader returned by {@link #getCardReader(ProductType)}.
+   * @param productType The product type of the card.
+   * @return A not null reference.
+   */
+  StorageCard selectCard(CardReader reader, ProductType productType);
+
+  /**
+   * Returns the provider of the keys of the simulated Mifare Classic cards.
+   *
+   * @return A not null reference.
+   */
+  MifareClassicKeyProviderSpi getMifareClassicKeyProvider();
+}
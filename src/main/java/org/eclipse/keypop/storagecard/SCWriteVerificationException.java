@@ -0,0 +1,71 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard;
+
+import org.eclipse.keypop.reader.CardCommunicationException;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+
+/**
+ * Indicates that the data read back after a verified write operation on the {@link StorageCard}
+ * does not match the data written.
+ *
+ * <p>This exception is thrown by the processing of a command prepared with {@link
+ * StorageCardTransactionManager#prepareWriteBlocksAndVerify(int, byte[])}. The block address
+ * provided is the address of the first block whose content differs from the expected data.
+ *
+ * @since 1.3.0
+ */
+public final class SCWriteVerificationException extends CardCommunicationException
+    implements StorageCardException {
+
+  private final Integer blockAddress;
+
+  /**
+   * Creates a new exception indicating a mismatch between the written data and the data read back
+   * from the card.
+   *
+   * @param blockAddress The address of the first mismatching block, or {@code null} if not
+   *     relevant.
+   * @param message The message describing the exception context.
+   * @since 1.3.0
+   */
+  public SCWriteVerificationException(Integer blockAddress, String message) {
+    super(message);
+    this.blockAddress = blockAddress;
+  }
+
+  /**
+   * Creates a new exception indicating a mismatch between the written data and the data read back
+   * from the card, with an underlying cause.
+   *
+   * @param blockAddress The address of the first mismatching block, or {@code null} if not
+   *     relevant.
+   * @param message The message describing the exception context.
+   * @param cause The underlying cause of the exception.
+   * @since 1.3.0
+   */
+  public SCWriteVerificationException(Integer blockAddress, String message, Throwable cause) {
+    super(message, cause);
+    this.blockAddress = blockAddress;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public Integer getBlockAddress() {
+    return blockAddress;
+  }
+}
@@ -11,11 +11,26 @@
  ************************************************************************************** */
 package org.eclipse.keypop.storagecard;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
 import org.eclipse.keypop.reader.CardReader;
 import org.eclipse.keypop.storagecard.card.ProductType;
 import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.card.StorageCardAutoDetectionSelectionExtension;
+import org.eclipse.keypop.storagecard.card.StorageCardReadAheadProfile;
 import org.eclipse.keypop.storagecard.card.StorageCardSelectionExtension;
+import org.eclipse.keypop.storagecard.card.StorageCardSnapshotFormat;
+import org.eclipse.keypop.storagecard.card.TransactionalRecordLayout;
+import org.eclipse.keypop.storagecard.personalization.StorageCardPersonalizationEngine;
+import org.eclipse.keypop.storagecard.personalization.StorageCardPersonalizationTemplate;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+import org.eclipse.keypop.storagecard.spi.StorageCardPersonalizationResultHandlerSpi;
+import org.eclipse.keypop.storagecard.transaction.MifareClassicKeyCache;
+import org.eclipse.keypop.storagecard.transaction.StorageCardSessionCache;
 import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionScheduler;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionSetting;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionTemplate;
 
 /**
  * Storage Card API Factory.
@@ -33,6 +48,71 @@ public interface StorageCardApiFactory {
    */
   StorageCardSelectionExtension createStorageCardSelectionExtension(ProductType productType);
 
+  /**
+   * Creates a new instance of {@link StorageCardAutoDetectionSelectionExtension}, identifying the
+   * product type of the card during the selection.
+   *
+   * @return A new instance of {@link StorageCardAutoDetectionSelectionExtension}.
+   * @since 1.3.0
+   */
+  StorageCardAutoDetectionSelectionExtension createStorageCardAutoDetectionSelectionExtension();
+
+  /**
+   * Creates a new empty instance of {@link StorageCardReadAheadProfile}.
+   *
+   * @param productType The targeted product type.
+   * @return A new instance of {@link StorageCardReadAheadProfile}.
+   * @throws IllegalArgumentException If the product type is null.
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile createStorageCardReadAheadProfile(ProductType productType);
+
+  /**
+   * Creates a new instance of {@link TransactionalRecordLayout}.
+   *
+   * <p>Each slot starts at the provided block address and spans the number of blocks needed to hold
+   * the payload, the sequence counter and the checksum. The two slots must not overlap, and must
+   * lie within the user memory of the product type, from {@link
+   * ProductType#getFirstUserBlockAddress()} to {@link ProductType#getLastUserBlockAddress()}. This
+   * excludes notably the UID, lock, OTP and configuration pages of the Mifare Ultralight and NTAG
+   * cards, whose writing may be irreversible. For Mifare Classic cards, the slots must not contain
+   * any sector trailer either, so that each slot is located in a single sector. Placing the two
+   * slots in different sectors is allowed; the transactional record commands taking a key provider
+   * then authenticate each slot's sector.
+   *
+   * @param productType The targeted product type.
+   * @param firstSlotBlockAddress The address of the first block of the first slot.
+   * @param secondSlotBlockAddress The address of the first block of the second slot.
+   * @param payloadSize The size of the payload of the record.
+   * @return A new instance of {@link TransactionalRecordLayout}.
+   * @throws IllegalArgumentException If the product type is null, if the payload size is not
+   *     strictly positive, or if the slots are out of the user memory, overlap or contain sector
+   *     trailers.
+   * @since 1.3.0
+   */
+  TransactionalRecordLayout createTransactionalRecordLayout(
+      ProductType productType,
+      int firstSlotBlockAddress,
+      int secondSlotBlockAddress,
+      int payloadSize);
+
+  /**
+   * Creates a {@link StorageCard} from a snapshot of its memory image.
+   *
+   * <p>The snapshot is read from the current position of the buffer, which is then advanced by the
+   * snapshot size, so that consecutive snapshots can be parsed sequentially. The returned card is
+   * an offline image: it provides the recorded data but cannot be used to create a transaction
+   * manager. Its power-on data and select application response are null.
+   *
+   * @param source The buffer containing the snapshot.
+   * @return A new instance of {@link StorageCard}.
+   * @throws IllegalArgumentException If the buffer is null, or if it does not contain a valid
+   *     snapshot or its format version is not supported.
+   * @see StorageCardSnapshotFormat
+   * @since 1.3.0
+   */
+  StorageCard createStorageCardFromSnapshot(ByteBuffer source);
+
   /**
    * Creates an instance of {@link StorageCardTransactionManager}.
    *
@@ -43,4 +123,113 @@ public interface StorageCardApiFactory {
    */
   StorageCardTransactionManager createStorageCardTransactionManager(
       CardReader reader, StorageCard card);
+
+  /**
+   * Creates a new instance of {@link StorageCardTransactionSetting} containing the default
+   * settings.
+   *
+   * @return A new instance of {@link StorageCardTransactionSetting}.
+   * @since 1.3.0
+   */
+  StorageCardTransactionSetting createStorageCardTransactionSetting();
+
+  /**
+   * Creates an instance of {@link StorageCardTransactionManager} using the provided settings.
+   *
+   * @param reader The reader through which the card communicates.
+   * @param card The initial card data provided by the selection process.
+   * @param setting The transaction settings.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager createStorageCardTransactionManager(
+      CardReader reader, StorageCard card, StorageCardTransactionSetting setting);
+
+  /**
+   * Creates a new instance of {@link StorageCardTransactionScheduler}.
+   *
+   * @param executor The executor running the work units.
+   * @param maxQueueDepthPerReader The maximum number of pending work units per reader.
+   * @return A new instance of {@link StorageCardTransactionScheduler}.
+   * @throws IllegalArgumentException If the executor is null or if the maximum queue depth is not
+   *     strictly positive.
+   * @since 1.3.0
+   */
+  StorageCardTransactionScheduler createStorageCardTransactionScheduler(
+      Executor executor, int maxQueueDepthPerReader);
+
+  /**
+   * Creates a new instance of {@link StorageCardTransactionScheduler} whose transaction managers
+   * use the provided setting.
+   *
+   * <p>This allows the scheduled work units to benefit from the transaction listener, the session
+   * cache or the command batching configured in the setting.
+   *
+   * @param executor The executor running the work units.
+   * @param maxQueueDepthPerReader The maximum number of pending work units per reader.
+   * @param setting The setting of the transaction managers provided to the work units.
+   * @return A new instance of {@link StorageCardTransactionScheduler}.
+   * @throws IllegalArgumentException If the executor or the setting is null, or if the maximum
+   *     queue depth is not strictly positive.
+   * @since 1.3.0
+   */
+  StorageCardTransactionScheduler createStorageCardTransactionScheduler(
+      Executor executor, int maxQueueDepthPerReader, StorageCardTransactionSetting setting);
+
+  /**
+   * Creates a new empty instance of {@link StorageCardSessionCache}.
+   *
+   * @return A new instance of {@link StorageCardSessionCache}.
+   * @since 1.3.0
+   */
+  StorageCardSessionCache createStorageCardSessionCache();
+
+  /**
+   * Creates a new instance of {@link MifareClassicKeyCache} wrapping the provided key provider.
+   *
+   * @param keyProvider The key provider to be invoked when a key is not cached.
+   * @param maxKeyCount The maximum number of cached keys.
+   * @param timeToLiveMillis The time-to-live of each cached key, in milliseconds.
+   * @return A new instance of {@link MifareClassicKeyCache}.
+   * @throws IllegalArgumentException If the key provider is null or if one of the other arguments
+   *     is not strictly positive.
+   * @since 1.3.0
+   */
+  MifareClassicKeyCache createMifareClassicKeyCache(
+      MifareClassicKeyProviderSpi keyProvider, int maxKeyCount, long timeToLiveMillis);
+
+  /**
+   * Creates a new empty instance of {@link StorageCardTransactionTemplate}.
+   *
+   * @param productType The targeted product type.
+   * @return A new instance of {@link StorageCardTransactionTemplate}.
+   * @throws IllegalArgumentException If the product type is null.
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate createStorageCardTransactionTemplate(ProductType productType);
+
+  /**
+   * Creates a new empty instance of {@link StorageCardPersonalizationTemplate}.
+   *
+   * @param productType The targeted product type.
+   * @return A new instance of {@link StorageCardPersonalizationTemplate}.
+   * @throws IllegalArgumentException If the product type is null.
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationTemplate createStorageCardPersonalizationTemplate(
+      ProductType productType);
+
+  /**
+   * Creates a new instance of {@link StorageCardPersonalizationEngine}.
+   *
+   * @param template The template describing the content to be written to each card.
+   * @param resultHandler The handler receiving the result of each processed card.
+   * @return A new instance of {@link StorageCardPersonalizationEngine}.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationEngine createStorageCardPersonalizationEngine(
+      StorageCardPersonalizationTemplate template,
+      StorageCardPersonalizationResultHandlerSpi resultHandler);
 }
@@ -23,7 +23,7 @@ public final class StorageCardApiProperties {
    *
    * @since 1.0.0
    */
-  public static final String VERSION = "1.2";
+  public static final String VERSION = "1.3";
 
   /** Private constructor */
   private StorageCardApiProperties() {}
@@ -0,0 +1,36 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+/**
+ * Range of contiguous block addresses of a {@link StorageCard}.
+ *
+ * @since 1.3.0
+ */
+public interface BlockRange {
+
+  /**
+   * Returns the first block address of the range.
+   *
+   * @return The starting block address (inclusive).
+   * @since 1.3.0
+   */
+  int getFromBlockAddress();
+
+  /**
+   * Returns the last block address of the range.
+   *
+   * @return The ending block address (inclusive).
+   * @since 1.3.0
+   */
+  int getToBlockAddress();
+}
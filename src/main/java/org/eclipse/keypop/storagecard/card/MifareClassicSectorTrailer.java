@@ -0,0 +1,129 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+
+/**
+ * Decoded content of a Mifare Classic sector trailer, as read in the memory image of the card.
+ *
+ * <p>The access bits define, for each block of the sector, the operations allowed with each key.
+ * For the 16-block sectors of the Mifare Classic 4K, the access conditions of the data blocks apply
+ * to groups of 5 blocks. The decoding follows the NXP Mifare Classic datasheets.
+ *
+ * <p>An instance is obtained with {@link StorageCard#getMifareClassicSectorTrailer(int)}.
+ *
+ * @since 1.3.0
+ */
+public interface MifareClassicSectorTrailer {
+
+  /**
+   * Returns the number of the sector.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  int getSectorNumber();
+
+  /**
+   * Returns the 3 bytes of access bits.
+   *
+   * @return A copy of the access bits.
+   * @since 1.3.0
+   */
+  byte[] getAccessBits();
+
+  /**
+   * Returns the general purpose byte following the access bits.
+   *
+   * @return The general purpose byte.
+   * @since 1.3.0
+   */
+  byte getGeneralPurposeByte();
+
+  /**
+   * Indicates whether the access bits are consistent with their inverted copy.
+   *
+   * <p>A card rejects a sector trailer with inconsistent access bits by blocking the sector.
+   *
+   * @return {@code true} if the access bits are consistent, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  boolean isAccessBitsValid();
+
+  /**
+   * Returns the access condition of the provided block, i.e. its access bits C1, C2 and C3.
+   *
+   * @param blockAddress The address of a block of the sector, sector trailer included.
+   * @return A value from 0 to 7 whose bits 2, 1 and 0 are respectively C1, C2 and C3.
+   * @throws IllegalArgumentException If the block does not belong to the sector.
+   * @throws IllegalStateException If the access bits are not valid.
+   * @since 1.3.0
+   */
+  int getAccessCondition(int blockAddress);
+
+  /**
+   * Indicates whether the provided data block can be read after an authentication with the
+   * provided key.
+   *
+   * @param blockAddress The address of a data block of the sector.
+   * @param mifareClassicKeyType The key type.
+   * @return {@code true} if the read is allowed, {@code false} otherwise.
+   * @throws IllegalArgumentException If the block is not a data block of the sector or if the key
+   *     type is null.
+   * @throws IllegalStateException If the access bits are not valid.
+   * @since 1.3.0
+   */
+  boolean isReadAllowed(int blockAddress, MifareClassicKeyType mifareClassicKeyType);
+
+  /**
+   * Indicates whether the provided data block can be written after an authentication with the
+   * provided key.
+   *
+   * @param blockAddress The address of a data block of the sector.
+   * @param mifareClassicKeyType The key type.
+   * @return {@code true} if the write is allowed, {@code false} otherwise.
+   * @throws IllegalArgumentException If the block is not a data block of the sector or if the key
+   *     type is null.
+   * @throws IllegalStateException If the access bits are not valid.
+   * @since 1.3.0
+   */
+  boolean isWriteAllowed(int blockAddress, MifareClassicKeyType mifareClassicKeyType);
+
+  /**
+   * Indicates whether the provided value block can be incremented after an authentication with the
+   * provided key.
+   *
+   * @param blockAddress The address of a data block of the sector.
+   * @param mifareClassicKeyType The key type.
+   * @return {@code true} if the increment is allowed, {@code false} otherwise.
+   * @throws IllegalArgumentException If the block is not a data block of the sector or if the key
+   *     type is null.
+   * @throws IllegalStateException If the access bits are not valid.
+   * @since 1.3.0
+   */
+  boolean isIncrementAllowed(int blockAddress, MifareClassicKeyType mifareClassicKeyType);
+
+  /**
+   * Indicates whether the provided value block can be decremented, restored and transferred after
+   * an authentication with the provided key.
+   *
+   * @param blockAddress The address of a data block of the sector.
+   * @param mifareClassicKeyType The key type.
+   * @return {@code true} if the decrement is allowed, {@code false} otherwise.
+   * @throws IllegalArgumentException If the block is not a data block of the sector or if the key
+   *     type is null.
+   * @throws IllegalStateException If the access bits are not valid.
+   * @since 1.3.0
+   */
+  boolean isDecrementAllowed(int blockAddress, MifareClassicKeyType mifareClassicKeyType);
+}
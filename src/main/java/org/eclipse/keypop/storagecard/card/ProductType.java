@@ -23,34 +23,79 @@ public enum ProductType {
    *
    * @since 1.0.0
    */
-  MIFARE_ULTRALIGHT(16, 4, false, true, false),
+  MIFARE_ULTRALIGHT(16, 4, false, true, false, 4, 1, 0, false, 4, 15),
 
   /**
    * NXP Mifare Classic 1K
    *
    * @since 1.1.0
    */
-  MIFARE_CLASSIC_1K(64, 16, false, true, true),
+  MIFARE_CLASSIC_1K(64, 16, false, true, true, 1, 1, 16, false, 1, 63),
 
   /**
    * NXP Mifare Classic 4K
    *
    * @since 1.1.0
    */
-  MIFARE_CLASSIC_4K(256, 16, false, true, true),
+  MIFARE_CLASSIC_4K(256, 16, false, true, true, 1, 1, 40, false, 1, 255),
 
   /**
    * ST Microelectronics ST25 / SRT512
    *
    * @since 1.0.0
    */
-  ST25_SRT512(16, 4, true, false, false);
+  ST25_SRT512(16, 4, true, false, false, 1, 1, 0, false, 7, 15),
+
+  /**
+   * NXP Mifare Ultralight EV1 MF0UL11 (20 pages)
+   *
+   * @since 1.3.0
+   */
+  MIFARE_ULTRALIGHT_EV1_MF0UL11(20, 4, false, true, false, 4, 1, 0, true, 4, 15),
+
+  /**
+   * NXP Mifare Ultralight EV1 MF0UL21 (41 pages)
+   *
+   * @since 1.3.0
+   */
+  MIFARE_ULTRALIGHT_EV1_MF0UL21(41, 4, false, true, false, 4, 1, 0, true, 4, 35),
+
+  /**
+   * NXP NTAG213 (45 pages)
+   *
+   * @since 1.3.0
+   */
+  NTAG213(45, 4, false, true, false, 4, 1, 0, true, 4, 39),
+
+  /**
+   * NXP NTAG215 (135 pages)
+   *
+   * @since 1.3.0
+   */
+  NTAG215(135, 4, false, true, false, 4, 1, 0, true, 4, 129),
+
+  /**
+   * NXP NTAG216 (231 pages)
+   *
+   * @since 1.3.0
+   */
+  NTAG216(231, 4, false, true, false, 4, 1, 0, true, 4, 225);
+
+  private static final int SMALL_SECTOR_COUNT = 32;
+  private static final int SMALL_SECTOR_BLOCK_COUNT = 4;
+  private static final int LARGE_SECTOR_BLOCK_COUNT = 16;
 
   private final int blockCount;
   private final int blockSize;
   private final boolean hasSystemBlock;
   private final boolean hasWriteAcknowledgment;
   private final boolean hasAuthentication;
+  private final int maxBlocksPerReadCommand;
+  private final int maxBlocksPerWriteCommand;
+  private final int sectorCount;
+  private final boolean hasFastRead;
+  private final int firstUserBlockAddress;
+  private final int lastUserBlockAddress;
 
   /**
    * Constructor.
@@ -62,18 +107,37 @@ public enum ProductType {
    *     successful write operations.
    * @param hasAuthentication Whether this card type requires authentication before read/write
    *     operations.
+   * @param maxBlocksPerReadCommand The maximum number of blocks returned by a single read command.
+   * @param maxBlocksPerWriteCommand The maximum number of blocks written by a single write command.
+   * @param sectorCount The number of sectors, 0 if the memory is not organized in sectors.
+   * @param hasFastRead Whether the card supports the reading of any range of blocks with a single
+   *     command.
+   * @param firstUserBlockAddress The address of the first block of the user memory.
+   * @param lastUserBlockAddress The address of the last block of the user memory.
    */
   ProductType(
       int blockCount,
       int blockSize,
       boolean hasSystemBlock,
       boolean hasWriteAcknowledgment,
-      boolean hasAuthentication) {
+      boolean hasAuthentication,
+      int maxBlocksPerReadCommand,
+      int maxBlocksPerWriteCommand,
+      int sectorCount,
+      boolean hasFastRead,
+      int firstUserBlockAddress,
+      int lastUserBlockAddress) {
     this.blockCount = blockCount;
     this.blockSize = blockSize;
     this.hasSystemBlock = hasSystemBlock;
     this.hasWriteAcknowledgment = hasWriteAcknowledgment;
     this.hasAuthentication = hasAuthentication;
+    this.maxBlocksPerReadCommand = maxBlocksPerReadCommand;
+    this.maxBlocksPerWriteCommand = maxBlocksPerWriteCommand;
+    this.sectorCount = sectorCount;
+    this.hasFastRead = hasFastRead;
+    this.firstUserBlockAddress = firstUserBlockAddress;
+    this.lastUserBlockAddress = lastUserBlockAddress;
   }
 
   /**
@@ -148,4 +212,206 @@ public enum ProductType {
   public boolean hasAuthentication() {
     return hasAuthentication;
   }
+
+  /**
+   * Returns the maximum number of blocks returned by a single read command of the card.
+   *
+   * <p>For example, a MIFARE Ultralight READ command returns 4 pages while a MIFARE Classic READ
+   * command returns a single block. Implementations use this value to group consecutive block reads
+   * into the minimum number of APDUs.
+   *
+   * @return A number greater than or equal to 1.
+   * @since 1.3.0
+   */
+  public int getMaxBlocksPerReadCommand() {
+    return maxBlocksPerReadCommand;
+  }
+
+  /**
+   * Returns the maximum number of blocks written by a single write command of the card.
+   *
+   * @return A number greater than or equal to 1.
+   * @since 1.3.0
+   */
+  public int getMaxBlocksPerWriteCommand() {
+    return maxBlocksPerWriteCommand;
+  }
+
+  /**
+   * Indicates whether the card supports the reading of any range of blocks with a single command.
+   *
+   * <p>This is the case for the MIFARE Ultralight EV1 and NTAG cards, which provide the FAST_READ
+   * command. The whole memory of such a card can be read with a single APDU, within the limits of
+   * the reader frame size, using the dedicated FAST_READ command of the transaction manager.
+   *
+   * @return {@code true} if the card supports the FAST_READ command, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  public boolean hasFastRead() {
+    return hasFastRead;
+  }
+
+  /**
+   * Returns the address of the first block of the user memory, i.e. the area intended to hold
+   * application data.
+   *
+   * <p>The blocks before it hold manufacturer data or protection settings, whose writing may be
+   * irreversible:
+   *
+   * <ul>
+   *   <li>for MIFARE Ultralight, Ultralight EV1 and NTAG cards, pages 0 to 3 hold the UID, the
+   *       static lock bytes and the OTP bytes,
+   *   <li>for MIFARE Classic cards, block 0 is the manufacturer block,
+   *   <li>for ST25/SRT512 cards, blocks 0 to 4 are the resettable OTP area and blocks 5 and 6 are
+   *       the count-down counters.
+   * </ul>
+   *
+   * @return A block address.
+   * @see #getLastUserBlockAddress()
+   * @since 1.3.0
+   */
+  public int getFirstUserBlockAddress() {
+    return firstUserBlockAddress;
+  }
+
+  /**
+   * Returns the address of the last block of the user memory, i.e. the area intended to hold
+   * application data.
+   *
+   * <p>For MIFARE Ultralight EV1 and NTAG cards, the pages after it hold the dynamic lock bytes and
+   * the configuration pages. For the other card types, it is the last block of the main memory.
+   *
+   * <p>For MIFARE Classic cards, the sector trailers located within the user memory are not
+   * intended to hold application data either (see {@link #isSectorTrailer(int)}).
+   *
+   * @return A block address.
+   * @see #getFirstUserBlockAddress()
+   * @since 1.3.0
+   */
+  public int getLastUserBlockAddress() {
+    return lastUserBlockAddress;
+  }
+
+  /**
+   * Indicates whether the memory of this card type is organized in sectors.
+   *
+   * <p>This is the case for MIFARE Classic cards, where each sector ends with a sector trailer
+   * holding the keys and access bits of the sector. The MIFARE Classic 1K has 16 sectors of 4
+   * blocks. The MIFARE Classic 4K has 32 sectors of 4 blocks followed by 8 sectors of 16 blocks.
+   *
+   * @return {@code true} if the memory is organized in sectors, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  public boolean hasSectors() {
+    return sectorCount != 0;
+  }
+
+  /**
+   * Returns the number of sectors of this card type.
+   *
+   * @return The number of sectors, 0 if the memory is not organized in sectors.
+   * @since 1.3.0
+   */
+  public int getSectorCount() {
+    return sectorCount;
+  }
+
+  /**
+   * Returns the number of the sector containing the provided block.
+   *
+   * @param blockAddress The block address.
+   * @return The sector number.
+   * @throws UnsupportedOperationException If the memory is not organized in sectors.
+   * @throws IllegalArgumentException If the block address is out of range.
+   * @since 1.3.0
+   */
+  public int getSectorOfBlock(int blockAddress) {
+    checkSectors();
+    if (blockAddress < 0 || blockAddress >= blockCount) {
+      throw new IllegalArgumentException("Block address out of range: " + blockAddress);
+    }
+    int smallSectorsBlockCount = SMALL_SECTOR_COUNT * SMALL_SECTOR_BLOCK_COUNT;
+    if (blockAddress < smallSectorsBlockCount) {
+      return blockAddress / SMALL_SECTOR_BLOCK_COUNT;
+    }
+    return SMALL_SECTOR_COUNT + (blockAddress - smallSectorsBlockCount) / LARGE_SECTOR_BLOCK_COUNT;
+  }
+
+  /**
+   * Returns the address of the first block of the provided sector.
+   *
+   * @param sectorNumber The sector number.
+   * @return The block address.
+   * @throws UnsupportedOperationException If the memory is not organized in sectors.
+   * @throws IllegalArgumentException If the sector number is out of range.
+   * @since 1.3.0
+   */
+  public int getFirstBlockOfSector(int sectorNumber) {
+    checkSector(sectorNumber);
+    if (sectorNumber < SMALL_SECTOR_COUNT) {
+      return sectorNumber * SMALL_SECTOR_BLOCK_COUNT;
+    }
+    return SMALL_SECTOR_COUNT * SMALL_SECTOR_BLOCK_COUNT
+        + (sectorNumber - SMALL_SECTOR_COUNT) * LARGE_SECTOR_BLOCK_COUNT;
+  }
+
+  /**
+   * Returns the number of blocks of the provided sector, sector trailer included.
+   *
+   * @param sectorNumber The sector number.
+   * @return The number of blocks.
+   * @throws UnsupportedOperationException If the memory is not organized in sectors.
+   * @throws IllegalArgumentException If the sector number is out of range.
+   * @since 1.3.0
+   */
+  public int getSectorBlockCount(int sectorNumber) {
+    checkSector(sectorNumber);
+    return sectorNumber < SMALL_SECTOR_COUNT ? SMALL_SECTOR_BLOCK_COUNT : LARGE_SECTOR_BLOCK_COUNT;
+  }
+
+  /**
+   * Returns the address of the sector trailer of the provided sector, i.e. its last block.
+   *
+   * @param sectorNumber The sector number.
+   * @return The block address.
+   * @throws UnsupportedOperationException If the memory is not organized in sectors.
+   * @throws IllegalArgumentException If the sector number is out of range.
+   * @since 1.3.0
+   */
+  public int getSectorTrailerBlockAddress(int sectorNumber) {
+    return getFirstBlockOfSector(sectorNumber) + getSectorBlockCount(sectorNumber) - 1;
+  }
+
+  /**
+   * Indicates whether the provided block is a sector trailer.
+   *
+   * <p>Always returns {@code false} if the memory is not organized in sectors.
+   *
+   * @param blockAddress The block address.
+   * @return {@code true} if the block is a sector trailer, {@code false} otherwise.
+   * @throws IllegalArgumentException If the block address is out of range.
+   * @since 1.3.0
+   */
+  public boolean isSectorTrailer(int blockAddress) {
+    if (!hasSectors()) {
+      if (blockAddress < 0 || blockAddress >= blockCount) {
+        throw new IllegalArgumentException("Block address out of range: " + blockAddress);
+      }
+      return false;
+    }
+    return getSectorTrailerBlockAddress(getSectorOfBlock(blockAddress)) == blockAddress;
+  }
+
+  private void checkSectors() {
+    if (sectorCount == 0) {
+      throw new UnsupportedOperationException("Product type " + name() + " has no sectors");
+    }
+  }
+
+  private void checkSector(int sectorNumber) {
+    checkSectors();
+    if (sectorNumber < 0 || sectorNumber >= sectorCount) {
+      throw new IllegalArgumentException("Sector number out of range: " + sectorNumber);
+    }
+  }
 }
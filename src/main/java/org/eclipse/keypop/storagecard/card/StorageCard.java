@@ -11,6 +11,8 @@
  ************************************************************************************** */
 package org.eclipse.keypop.storagecard.card;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import org.eclipse.keypop.reader.selection.spi.SmartCard;
 import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
 
@@ -59,11 +61,14 @@ public interface StorageCard extends SmartCard {
    * Retrieves the data block at the specified block address.
    *
    * <p>If the block has not been previously read and stored in memory, the returned byte array will
-   * be filled with zeros.
+   * be filled with zeros. If the block is no longer loaded because it has been written since it was
+   * last read (see {@link #isBlockLoaded(int)}), the returned byte array holds the content last
+   * read, which the card may no longer have. Use {@link #isBlockLoaded(int)} to distinguish these
+   * cases.
    *
    * @param blockAddress The address of the block to retrieve
-   * @return The data block as a byte array, or a zero-filled byte array if the block has not been
-   *     read yet.
+   * @return The data block as a byte array, or a zero-filled byte array if the block has never been
+   *     read.
    * @throws IndexOutOfBoundsException If the block address is out of range.
    * @since 1.0.0
    */
@@ -74,7 +79,8 @@ public interface StorageCard extends SmartCard {
    *
    * <p>The returned array contains the blocks in order, from {@code fromBlockAddress} to {@code
    * toBlockAddress}. If a block has not been previously read and stored in memory, its
-   * corresponding bytes in the returned array will be filled with zeros.
+   * corresponding bytes in the returned array will be filled with zeros. Blocks that are no longer
+   * loaded are returned as described in {@link #getBlock(int)}.
    *
    * @param fromBlockAddress The starting block address (inclusive).
    * @param toBlockAddress The ending block address (inclusive).
@@ -85,4 +91,218 @@ public interface StorageCard extends SmartCard {
    *     of the memory image.
    */
   byte[] getBlocks(int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Indicates whether the memory image holds the current content of the block at the specified
+   * address.
+   *
+   * <p>A block becomes loaded when it is read, or when a write command updating the memory image
+   * with the written data is processed (see {@link StorageCardTransactionManager}). It is no longer
+   * loaded once a write command targeting it is processed without updating the memory image, e.g.
+   * a plain write, a write on a card without write acknowledgment, or a failed write, until it is
+   * read again. This state belongs to the storage card and is shared by all its transaction
+   * managers.
+   *
+   * <p>This allows distinguishing a block that has never been read from a block that has been read
+   * and contains only zeros, and a block whose content in the memory image may be outdated. Read
+   * planners and caches must only rely on the content of loaded blocks.
+   *
+   * @param blockAddress The address of the block.
+   * @return {@code true} if the block is loaded, {@code false} otherwise.
+   * @throws IndexOutOfBoundsException If the block address is out of range.
+   * @since 1.3.0
+   */
+  boolean isBlockLoaded(int blockAddress);
+
+  /**
+   * Returns the ranges of contiguous blocks that are loaded in the memory image.
+   *
+   * <p>Blocks that are no longer loaded because they have been written since they were last read
+   * are excluded (see {@link #isBlockLoaded(int)}).
+   *
+   * @return A not null, possibly empty, list of ranges sorted in ascending block address order.
+   * @since 1.3.0
+   */
+  List<BlockRange> getLoadedBlockRanges();
+
+  /**
+   * Returns the sequence number of the processing during which the block at the specified address
+   * was last read.
+   *
+   * <p>Processings are numbered from the selection phase: 0 for the selection, then incremented at
+   * each processing of commands by a transaction manager of the card. This allows read planners and
+   * caches to determine whether a block read earlier in the session is still worth using.
+   *
+   * @param blockAddress The address of the block.
+   * @return The sequence number, or -1 if the block is not loaded (never read, or written since it
+   *     was last read).
+   * @throws IndexOutOfBoundsException If the block address is out of range.
+   * @see #isBlockLoaded(int)
+   * @since 1.3.0
+   */
+  int getBlockReadSequenceNumber(int blockAddress);
+
+  /**
+   * Indicates whether the specified block of a Mifare Classic card is a valid value block in the
+   * memory image.
+   *
+   * <p>A valid value block stores its value three times, once inverted, followed by its backup
+   * address byte stored twice, once inverted.
+   *
+   * @param blockAddress The address of the block.
+   * @return {@code true} if the block is loaded and has the value block format, {@code false}
+   *     otherwise.
+   * @throws IndexOutOfBoundsException If the block address is out of range.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  boolean isMifareClassicValueBlock(int blockAddress);
+
+  /**
+   * Returns the value of the specified Mifare Classic value block from the memory image.
+   *
+   * @param blockAddress The address of the value block.
+   * @return The signed 32-bit value.
+   * @throws IndexOutOfBoundsException If the block address is out of range.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @throws IllegalStateException If the block is not loaded or is not a valid value block.
+   * @see #isMifareClassicValueBlock(int)
+   * @since 1.3.0
+   */
+  int getMifareClassicValue(int blockAddress);
+
+  /**
+   * Returns the decoded sector trailer of the specified Mifare Classic sector from the memory
+   * image.
+   *
+   * @param sectorNumber The sector number.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the sector number is out of range.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @throws IllegalStateException If the sector trailer is not loaded.
+   * @see ProductType#getSectorTrailerBlockAddress(int)
+   * @since 1.3.0
+   */
+  MifareClassicSectorTrailer getMifareClassicSectorTrailer(int sectorNumber);
+
+  /**
+   * Returns the payload of the current transactional record from the memory image.
+   *
+   * <p>Among the two slots of the layout, the ones having a valid checksum are considered, and the
+   * most recent one is retained, as defined by {@link TransactionalRecordLayout}. A slot left
+   * inconsistent by a torn write is thus ignored, and the previous record is returned. A slot whose
+   * blocks are not all loaded (e.g. after a transactional write on a card without write
+   * acknowledgment) is ignored as well.
+   *
+   * @param layout The layout of the record.
+   * @return A copy of the payload, or {@code null} if no slot holds a valid record.
+   * @throws IllegalArgumentException If the layout is null or targets another product type.
+   * @throws IllegalStateException If none of the slots has been entirely read.
+   * @see TransactionalRecordLayout
+   * @since 1.3.0
+   */
+  byte[] getTransactionalRecord(TransactionalRecordLayout layout);
+
+  /**
+   * Returns the sequence counter of the current transactional record from the memory image.
+   *
+   * @param layout The layout of the record.
+   * @return A value from 0 to 65535, or -1 if no slot holds a valid record.
+   * @throws IllegalArgumentException If the layout is null or targets another product type.
+   * @throws IllegalStateException If none of the slots has been entirely read.
+   * @see #getTransactionalRecord(TransactionalRecordLayout)
+   * @since 1.3.0
+   */
+  int getTransactionalRecordSequenceNumber(TransactionalRecordLayout layout);
+
+  /**
+   * Returns a read-only view of the data blocks within the specified range of the memory image of
+   * the storage card.
+   *
+   * <p>Unlike {@link #getBlocks(int, int)}, no copy of the data is made: the returned buffer shares
+   * its content with the memory image, which is stored as a single contiguous area of {@link
+   * ProductType#getBlockCount()} * {@link ProductType#getBlockSize()} bytes. Any subsequent update
+   * of the memory image (e.g. by a read command processed later) is therefore visible through the
+   * returned buffer.
+   *
+   * <p>The position of the returned buffer is 0 and its limit is equal to the length of the
+   * requested range, in bytes. Blocks that have not been previously read are zero-filled, and
+   * blocks that are no longer loaded hold the content last read (see {@link #getBlock(int)}).
+   *
+   * @param fromBlockAddress The starting block address (inclusive).
+   * @param toBlockAddress The ending block address (inclusive).
+   * @return A not null read-only buffer.
+   * @throws IndexOutOfBoundsException If {@code fromBlockAddress} is greater than {@code
+   *     toBlockAddress}, if either block address is negative, or if they exceed the available range
+   *     of the memory image.
+   * @see #copyBlocksInto(int, int, byte[], int)
+   * @since 1.3.0
+   */
+  ByteBuffer getBlocksAsReadOnlyBuffer(int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Copies the data blocks within the specified range of the memory image of the storage card into
+   * the provided array.
+   *
+   * <p>This method does the same as {@link #getBlocks(int, int)} but lets the application reuse its
+   * own buffer instead of allocating a new array at each call. Blocks that have not been previously
+   * read are copied as zero-filled sections, and blocks that are no longer loaded are copied as
+   * described in {@link #getBlock(int)}.
+   *
+   * @param fromBlockAddress The starting block address (inclusive).
+   * @param toBlockAddress The ending block address (inclusive).
+   * @param destination The destination array.
+   * @param destinationOffset The offset in the destination array from which the data is copied.
+   * @throws IllegalArgumentException If the destination array is null.
+   * @throws IndexOutOfBoundsException If {@code fromBlockAddress} is greater than {@code
+   *     toBlockAddress}, if either block address is negative, if they exceed the available range of
+   *     the memory image, or if the destination array is too small to receive the data from the
+   *     provided offset.
+   * @since 1.3.0
+   */
+  void copyBlocksInto(
+      int fromBlockAddress, int toBlockAddress, byte[] destination, int destinationOffset);
+
+  /**
+   * Returns the size, in bytes, of the snapshot of the memory image of the storage card.
+   *
+   * @return A positive number.
+   * @see StorageCardSnapshotFormat
+   * @since 1.3.0
+   */
+  int getSnapshotSize();
+
+  /**
+   * Returns a snapshot of the memory image of the storage card.
+   *
+   * <p>The snapshot records the product type, the UID, the system block when read, the validity
+   * of each block and the raw blocks, in the format defined by {@link StorageCardSnapshotFormat}.
+   * The validity bit of a block is set only if the block is loaded (see {@link
+   * #isBlockLoaded(int)}). Blocks that are no longer loaded are recorded with the content last
+   * read, and restored as not loaded.
+   * The returned buffer is ready to be written, e.g. to a {@link
+   * java.nio.channels.WritableByteChannel}.
+   *
+   * @return A new buffer whose position is 0 and limit is the snapshot size.
+   * @see #writeSnapshot(ByteBuffer)
+   * @since 1.3.0
+   */
+  ByteBuffer snapshot();
+
+  /**
+   * Writes a snapshot of the memory image of the storage card into the provided buffer.
+   *
+   * <p>This method does the same as {@link #snapshot()} without allocating any buffer, e.g. to
+   * append snapshots directly to a {@link java.nio.MappedByteBuffer}. The snapshot is written at
+   * the current position of the buffer, which is then advanced by the snapshot size.
+   *
+   * @param destination The destination buffer.
+   * @throws IllegalArgumentException If the buffer is null.
+   * @throws java.nio.BufferOverflowException If the remaining space in the buffer is smaller than
+   *     the snapshot size.
+   * @throws java.nio.ReadOnlyBufferException If the buffer is read-only.
+   * @see #getSnapshotSize()
+   * @since 1.3.0
+   */
+  void writeSnapshot(ByteBuffer destination);
 }
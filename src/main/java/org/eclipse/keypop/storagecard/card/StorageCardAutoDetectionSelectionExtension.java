@@ -0,0 +1,66 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import org.eclipse.keypop.reader.selection.spi.CardSelectionExtension;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+
+/**
+ * Extends the {@link CardSelectionExtension} interface of the "Keypop Reader API" to select a
+ * storage card whose {@link ProductType} is not known in advance.
+ *
+ * <p>Unlike {@link StorageCardSelectionExtension}, which targets a single product type, this
+ * extension identifies the product type of the card in a single selection pass, from the card name
+ * of the PC/SC ATR completed when needed by the ATQA, SAK and UID length. For the Mifare Ultralight
+ * and NTAG family, whose ATR does not distinguish the variants, a GET VERSION command is added. A
+ * mixed fleet of cards can thus be handled by a single selection case instead of trying one
+ * selection extension per product type.
+ *
+ * <p>Once the product type is identified, the read-ahead profile registered for it, if any, is
+ * executed during the same selection phase. The identified product type is then available with
+ * {@link StorageCard#getProductType()}. A card whose product type cannot be identified, or which is
+ * not among the candidate product types, is not considered as matching.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createStorageCardAutoDetectionSelectionExtension()}.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardAutoDetectionSelectionExtension extends CardSelectionExtension {
+
+  /**
+   * Restricts the product types that may be identified to the provided ones.
+   *
+   * <p>By default, all the product types are candidates. Restricting them avoids the additional
+   * commands needed to distinguish product types that are not part of the fleet.
+   *
+   * @param productTypes The candidate product types.
+   * @return The current instance.
+   * @throws IllegalArgumentException If no product type is provided or if one of them is null.
+   * @since 1.3.0
+   */
+  StorageCardAutoDetectionSelectionExtension setCandidateProductTypes(ProductType... productTypes);
+
+  /**
+   * Registers the read-ahead profile to be executed when a card of the product type targeted by
+   * the profile is identified.
+   *
+   * @param profile The read-ahead profile.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the profile is null or if a profile is already registered
+   *     for the same product type.
+   * @see StorageCardReadAheadProfile
+   * @since 1.3.0
+   */
+  StorageCardAutoDetectionSelectionExtension addReadAheadProfile(
+      StorageCardReadAheadProfile profile);
+}
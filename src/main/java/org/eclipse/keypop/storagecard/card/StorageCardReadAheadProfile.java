@@ -0,0 +1,133 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+
+/**
+ * Declarative description of the data to be read from a card of a given {@link ProductType} during
+ * the selection phase.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createStorageCardReadAheadProfile(ProductType)} and applied with {@link
+ * StorageCardSelectionExtension#prepareReadAhead(StorageCardReadAheadProfile)}. The data read is
+ * then available in the {@link StorageCard} resulting from the selection, avoiding a second
+ * transaction.
+ *
+ * <p>Typical profiles are:
+ *
+ * <ul>
+ *   <li>reading the whole memory of a card: {@link #includeAllBlocks()}, completed with {@link
+ *       #includeSt25SystemBlock()} for ST25/SRT512 cards,
+ *   <li>reading some sectors of a Mifare Classic card with a set of keys: one call to {@link
+ *       #includeMifareClassicSectors(int, int, MifareClassicKeyType, byte[])} or {@link
+ *       #includeMifareClassicSectors(int, int, MifareClassicKeyType, int)} per key,
+ *   <li>reading the system block and blocks 0 to 15 of an ST25/SRT512 card: {@link
+ *       #includeSt25SystemBlock()} and {@link #includeBlocks(int, int)}.
+ * </ul>
+ *
+ * <p>The included data is read in ascending block address order, whatever the order of the calls.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardReadAheadProfile {
+
+  /**
+   * Returns the product type targeted by the profile.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  ProductType getProductType();
+
+  /**
+   * Includes all the blocks of the main memory area of the card in the profile.
+   *
+   * @return The current instance.
+   * @throws UnsupportedOperationException If the product type requires authentication, in which
+   *     case the sectors must be included with their keys.
+   * @see ProductType#getBlockCount()
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile includeAllBlocks();
+
+  /**
+   * Includes a range of blocks in the profile.
+   *
+   * @param fromBlockAddress The starting block address (inclusive).
+   * @param toBlockAddress The ending block address (inclusive).
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is out of range.
+   * @throws UnsupportedOperationException If the product type requires authentication, in which
+   *     case the sectors must be included with their keys.
+   * @see ProductType#getBlockCount()
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile includeBlocks(int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Includes the system block of an ST25/SRT512 card in the profile.
+   *
+   * @return The current instance.
+   * @throws UnsupportedOperationException If the product type is not ST25/SRT512.
+   * @see StorageCard#getSystemBlock()
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile includeSt25SystemBlock();
+
+  /**
+   * Includes a range of sectors of a Mifare Classic card in the profile, authenticated with a
+   * provided key.
+   *
+   * <p>All the blocks of the sectors are read. If the authentication of a sector fails, its blocks
+   * are not read but the selection is not interrupted.
+   *
+   * @param fromSectorNumber The starting sector number (inclusive).
+   * @param toSectorNumber The ending sector number (inclusive).
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param key The 6-byte key data for authentication.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the sector numbers is out of range, or if the key is
+   *     null or not exactly 6 bytes long.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile includeMifareClassicSectors(
+      int fromSectorNumber,
+      int toSectorNumber,
+      MifareClassicKeyType mifareClassicKeyType,
+      byte[] key);
+
+  /**
+   * Includes a range of sectors of a Mifare Classic card in the profile, authenticated with a key
+   * stored in the reader.
+   *
+   * <p>All the blocks of the sectors are read. If the authentication of a sector fails, its blocks
+   * are not read but the selection is not interrupted.
+   *
+   * @param fromSectorNumber The starting sector number (inclusive).
+   * @param toSectorNumber The ending sector number (inclusive).
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyNumber The index of the key in the reader's key storage.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the sector numbers is out of range, or if the key
+   *     number is invalid.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardReadAheadProfile includeMifareClassicSectors(
+      int fromSectorNumber,
+      int toSectorNumber,
+      MifareClassicKeyType mifareClassicKeyType,
+      int keyNumber);
+}
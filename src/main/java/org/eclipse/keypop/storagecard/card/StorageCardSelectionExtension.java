@@ -124,4 +124,21 @@ public interface StorageCardSelectionExtension extends CardSelectionExtension {
    */
   StorageCardSelectionExtension prepareMifareClassicAuthenticate(
       int blockAddress, MifareClassicKeyType mifareClassicKeyType, int keyNumber);
+
+  /**
+   * Prepares the reading of all the data described by the provided read-ahead profile.
+   *
+   * <p>The needed commands, including the Mifare Classic authentications, are executed during the
+   * selection phase, so that no additional transaction is needed to retrieve the described data.
+   *
+   * <p>Once these commands are processed, the result is available in {@link StorageCard}.
+   *
+   * @param profile The read-ahead profile.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the profile is null or if it targets a product type other
+   *     than the one of this selection extension.
+   * @see StorageCardReadAheadProfile
+   * @since 1.3.0
+   */
+  StorageCardSelectionExtension prepareReadAhead(StorageCardReadAheadProfile profile);
 }
@@ -0,0 +1,127 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import java.nio.ByteBuffer;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+
+/**
+ * Definition of the binary snapshot format of the memory image of a {@link StorageCard}.
+ *
+ * <p>A snapshot is produced with {@link StorageCard#snapshot()} or {@link
+ * StorageCard#writeSnapshot(ByteBuffer)} and parsed with {@link
+ * StorageCardApiFactory#createStorageCardFromSnapshot(ByteBuffer)}. Snapshots have no header nor
+ * footer, so that they can be directly appended to a file or a memory-mapped buffer and scanned
+ * sequentially. All multi-byte values are big-endian.
+ *
+ * <table border="1">
+ *   <caption>Snapshot layout (version 1)</caption>
+ *   <tr><th>Size (bytes)</th><th>Content</th></tr>
+ *   <tr><td>2</td><td>Magic number {@value #MAGIC}</td></tr>
+ *   <tr><td>1</td><td>Format version {@value #VERSION}</td></tr>
+ *   <tr><td>1</td><td>Product type code (see {@link #getProductTypeCode(ProductType)})</td></tr>
+ *   <tr><td>1</td><td>Flags: bit 0 is set when the system block has been read</td></tr>
+ *   <tr><td>1</td><td>UID length (N)</td></tr>
+ *   <tr><td>N</td><td>UID</td></tr>
+ *   <tr><td>2</td><td>Block count (C)</td></tr>
+ *   <tr><td>1</td><td>Block size (S)</td></tr>
+ *   <tr><td>(C + 7) / 8</td><td>Block validity bitmap: bit {@code i % 8} (LSB first) of byte
+ *       {@code i / 8} is set when block {@code i} is loaded (see {@link
+ *       StorageCard#isBlockLoaded(int)})</td></tr>
+ *   <tr><td>S or 0</td><td>System block, only present when flag bit 0 is set</td></tr>
+ *   <tr><td>C * S</td><td>Blocks, in address order, zero-filled when never read; a block that is no
+ *       longer loaded holds the content last read</td></tr>
+ * </table>
+ *
+ * @since 1.3.0
+ */
+public final class StorageCardSnapshotFormat {
+
+  /**
+   * Magic number at the start of each snapshot: {@value}
+   *
+   * @since 1.3.0
+   */
+  public static final int MAGIC = 0x5343;
+
+  /**
+   * Current format version: {@value}
+   *
+   * @since 1.3.0
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * System block flag: {@value}
+   *
+   * @since 1.3.0
+   */
+  public static final int FLAG_SYSTEM_BLOCK = 0x01;
+
+  /** Private constructor */
+  private StorageCardSnapshotFormat() {}
+
+  /**
+   * Returns the code identifying the provided product type in a snapshot.
+   *
+   * <p>Codes are stable across versions of the API and never reused.
+   *
+   * @param productType The product type.
+   * @return The product type code.
+   * @throws IllegalArgumentException If the product type is null.
+   * @since 1.3.0
+   */
+  public static int getProductTypeCode(ProductType productType) {
+    if (productType == null) {
+      throw new IllegalArgumentException("productType is null");
+    }
+    switch (productType) {
+      case MIFARE_ULTRALIGHT:
+        return 0x01;
+      case MIFARE_CLASSIC_1K:
+        return 0x02;
+      case MIFARE_CLASSIC_4K:
+        return 0x03;
+      case ST25_SRT512:
+        return 0x04;
+      case MIFARE_ULTRALIGHT_EV1_MF0UL11:
+        return 0x05;
+      case MIFARE_ULTRALIGHT_EV1_MF0UL21:
+        return 0x06;
+      case NTAG213:
+        return 0x07;
+      case NTAG215:
+        return 0x08;
+      case NTAG216:
+        return 0x09;
+      default:
+        throw new IllegalArgumentException("Unsupported product type: " + productType);
+    }
+  }
+
+  /**
+   * Returns the product type identified by the provided code in a snapshot.
+   *
+   * @param productTypeCode The product type code.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the code is unknown.
+   * @since 1.3.0
+   */
+  public static ProductType getProductType(int productTypeCode) {
+    for (ProductType productType : ProductType.values()) {
+      if (getProductTypeCode(productType) == productTypeCode) {
+        return productType;
+      }
+    }
+    throw new IllegalArgumentException("Unknown product type code: " + productTypeCode);
+  }
+}
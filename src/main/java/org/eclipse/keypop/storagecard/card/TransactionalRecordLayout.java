@@ -0,0 +1,107 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+
+/**
+ * Location and format of a record protected against card tearing.
+ *
+ * <p>The record is double-buffered in two slots of contiguous blocks. Each slot contains:
+ *
+ * <table>
+ *   <caption>Slot format (big-endian)</caption>
+ *   <tr><th>Size</th><th>Content</th></tr>
+ *   <tr><td>P</td><td>Payload, P being the payload size of the layout</td></tr>
+ *   <tr><td>2</td><td>Sequence counter, incremented modulo 65536 at each write</td></tr>
+ *   <tr><td>4</td><td>CRC32 of the payload and the sequence counter</td></tr>
+ *   <tr><td>0-n</td><td>Zero padding up to the end of the last block of the slot</td></tr>
+ * </table>
+ *
+ * <p>A write always targets the slot that does not hold the current record, so that the current
+ * record stays intact if the card is torn away. On the next read, the slot whose checksum is valid
+ * and whose sequence counter is the most recent one is retained, which rolls a torn write back to
+ * the previous record without any extra read.
+ *
+ * <p>The slot to write and its sequence counter are chosen as follows:
+ *
+ * <ul>
+ *   <li>if a slot holds the current record, with counter {@code c}, the other slot is written with
+ *       counter {@code (c + 1) & 0xFFFF},
+ *   <li>if no slot holds a valid record (e.g. on a fresh card, or when both slots are corrupted),
+ *       slot 0 is written with counter 0.
+ * </ul>
+ *
+ * <p>As the sequence counter wraps around from 65535 to 0, the most recent counter is determined
+ * with serial number arithmetic: when both slots are valid, with counters {@code a} and {@code b},
+ * the slot having counter {@code b} is the most recent one if {@code (b - a) & 0xFFFF} is in the
+ * range 1 to 0x7FFF, and the slot having counter {@code a} otherwise. Since each write increments
+ * the counter of the current record by 1, the counters of the two slots never differ by more than
+ * 1 in practice. All implementations must apply these rules to read and write the on-card format
+ * identically.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createTransactionalRecordLayout(ProductType, int, int, int)}.
+ *
+ * @see StorageCard#getTransactionalRecord(TransactionalRecordLayout)
+ * @since 1.3.0
+ */
+public interface TransactionalRecordLayout {
+
+  /**
+   * Size in bytes of the sequence counter.
+   *
+   * @since 1.3.0
+   */
+  int SEQUENCE_COUNTER_SIZE = 2;
+
+  /**
+   * Size in bytes of the checksum.
+   *
+   * @since 1.3.0
+   */
+  int CHECKSUM_SIZE = 4;
+
+  /**
+   * Returns the product type targeted by the layout.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  ProductType getProductType();
+
+  /**
+   * Returns the size of the payload of the record.
+   *
+   * @return A strictly positive number.
+   * @since 1.3.0
+   */
+  int getPayloadSize();
+
+  /**
+   * Returns the number of blocks of each slot.
+   *
+   * @return A strictly positive number.
+   * @since 1.3.0
+   */
+  int getSlotBlockCount();
+
+  /**
+   * Returns the range of blocks of the provided slot.
+   *
+   * @param slotIndex The slot index, 0 or 1.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the slot index is neither 0 nor 1.
+   * @since 1.3.0
+   */
+  BlockRange getSlot(int slotIndex);
+}
@@ -0,0 +1,88 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.personalization;
+
+import java.util.Collection;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.spi.StorageCardPersonalizationResultHandlerSpi;
+
+/**
+ * Personalizes cards in bulk across several readers according to a {@link
+ * StorageCardPersonalizationTemplate}.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createStorageCardPersonalizationEngine(StorageCardPersonalizationTemplate,
+ * StorageCardPersonalizationResultHandlerSpi)}.
+ *
+ * <p>Once started, each reader is driven by its own worker, which repeatedly waits for a card,
+ * selects it, writes the template content and verifies it. The writing and verification commands
+ * of a card are processed in a single transaction. The result of each card is reported to the
+ * result handler as soon as the card is processed, whether it succeeded or not; a failure on one
+ * card does not stop the worker.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardPersonalizationEngine {
+
+  /**
+   * Starts the personalization on the provided readers.
+   *
+   * @param readers The readers to be used.
+   * @throws IllegalArgumentException If the collection is null or empty.
+   * @throws IllegalStateException If the engine is already running.
+   * @since 1.3.0
+   */
+  void start(Collection<CardReader> readers);
+
+  /**
+   * Stops the personalization.
+   *
+   * <p>The cards being processed are completed before the workers terminate. This method returns
+   * once all the workers are terminated. It has no effect if the engine is not running.
+   *
+   * @since 1.3.0
+   */
+  void stop();
+
+  /**
+   * Indicates whether the engine is running.
+   *
+   * @return {@code true} if the engine is running, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  boolean isRunning();
+
+  /**
+   * Returns the number of cards successfully personalized since the engine was last started.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  long getSuccessfulCardCount();
+
+  /**
+   * Returns the number of cards whose personalization failed since the engine was last started.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  long getFailedCardCount();
+
+  /**
+   * Returns the throughput of the engine since it was last started.
+   *
+   * @return The number of cards successfully personalized per hour.
+   * @since 1.3.0
+   */
+  double getThroughputPerHour();
+}
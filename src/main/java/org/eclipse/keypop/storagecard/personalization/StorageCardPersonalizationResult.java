@@ -0,0 +1,61 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.personalization;
+
+/**
+ * Result of the personalization of a card by a {@link StorageCardPersonalizationEngine}.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardPersonalizationResult {
+
+  /**
+   * Returns the name of the reader in which the card was personalized.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  String getReaderName();
+
+  /**
+   * Returns the UID of the card.
+   *
+   * @return The UID, or null if the card could not be selected.
+   * @since 1.3.0
+   */
+  byte[] getUID();
+
+  /**
+   * Indicates whether the card was successfully personalized and verified.
+   *
+   * @return {@code true} if the personalization succeeded, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  boolean isSuccessful();
+
+  /**
+   * Returns the exception that caused the personalization to fail.
+   *
+   * @return The exception, or null if the personalization succeeded.
+   * @since 1.3.0
+   */
+  RuntimeException getException();
+
+  /**
+   * Returns the elapsed time, in nanoseconds, from the detection of the card to the end of its
+   * personalization.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  long getDurationNanos();
+}
@@ -0,0 +1,117 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.personalization;
+
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+
+/**
+ * Describes the content to be written to each card processed by a {@link
+ * StorageCardPersonalizationEngine}.
+ *
+ * <p>An instance is created for a given {@link ProductType} with {@link
+ * StorageCardApiFactory#createStorageCardPersonalizationTemplate(ProductType)}. The arguments are
+ * validated when they are added, so that the template can then be applied to any number of cards.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardPersonalizationTemplate {
+
+  /**
+   * Returns the product type targeted by the template.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  ProductType getProductType();
+
+  /**
+   * Adds blocks of data to be written to each card, starting from a specific block number offset.
+   *
+   * <p>The number of blocks is determined by the length of the data array divided by the block
+   * size of the storage card.
+   *
+   * @param fromBlockAddress The offset from which the blocks will be written.
+   * @param data The data to be written.
+   * @return The current instance.
+   * @throws IllegalArgumentException If data is null, if its length is not a multiple of the block
+   *     size, or if the blocks to be written are out of range.
+   * @see ProductType#getBlockSize()
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationTemplate addBlocks(int fromBlockAddress, byte[] data);
+
+  /**
+   * Adds a Mifare Classic sector trailer to be written to each card.
+   *
+   * <p>Sector trailers are written after all the data blocks of the template, so that the data
+   * blocks are written with the initial keys of the cards.
+   *
+   * <p>As Key A can never be read back, a sector trailer is verified by authenticating the sector
+   * again with the new Key A and reading the trailer back: the access bits, the general purpose
+   * byte and, when the access bits allow it, Key B are then compared with the written values.
+   *
+   * <p>The same keys are written to all the cards. For keys diversified from the UID, use {@link
+   * #addMifareClassicSectorTrailer(int, byte[], MifareClassicKeyProviderSpi)}.
+   *
+   * @param sectorNumber The number of the sector.
+   * @param keyA The 6-byte Key A.
+   * @param accessBits The 4 bytes containing the access bits and the general purpose byte.
+   * @param keyB The 6-byte Key B.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the sector number is out of range or if one of the keys or
+   *     the access bits is null or has a wrong length.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationTemplate addMifareClassicSectorTrailer(
+      int sectorNumber, byte[] keyA, byte[] accessBits, byte[] keyB);
+
+  /**
+   * Adds a Mifare Classic sector trailer whose keys are resolved for each card by a key provider.
+   *
+   * <p>For each card, Key A and Key B are requested from the provided key provider with the UID of
+   * the card, the sector number and respectively {@link MifareClassicKeyType#KEY_A} and {@link
+   * MifareClassicKeyType#KEY_B}. This allows the personalization of cards with keys diversified
+   * from their UID.
+   *
+   * <p>The sector trailer is written and verified as described in {@link
+   * #addMifareClassicSectorTrailer(int, byte[], byte[], byte[])}. If the key provider returns a
+   * null key or a key that is not exactly 6 bytes long, the card is reported as failed.
+   *
+   * @param sectorNumber The number of the sector.
+   * @param accessBits The 4 bytes containing the access bits and the general purpose byte.
+   * @param keyProvider The provider of the new keys of the sector.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the sector number is out of range, if the access bits are
+   *     null or have a wrong length, or if the key provider is null.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationTemplate addMifareClassicSectorTrailer(
+      int sectorNumber, byte[] accessBits, MifareClassicKeyProviderSpi keyProvider);
+
+  /**
+   * Sets the initial keys of the cards, used to authenticate the sectors to be written.
+   *
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the initial keys of the cards.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardPersonalizationTemplate setMifareClassicInitialKey(
+      MifareClassicKeyType mifareClassicKeyType, MifareClassicKeyProviderSpi keyProvider);
+}
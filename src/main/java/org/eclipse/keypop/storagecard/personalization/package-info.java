@@ -0,0 +1,2 @@
+/** Contains the interfaces for the bulk personalization of storage cards. */
+package org.eclipse.keypop.storagecard.personalization;
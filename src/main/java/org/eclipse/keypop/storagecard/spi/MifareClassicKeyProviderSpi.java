@@ -0,0 +1,65 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.transaction.MifareClassicKeyCache;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+
+/**
+ * Provides the Mifare Classic keys needed to authenticate the sectors of a card.
+ *
+ * <p>This interface must be implemented by the application when it lets the library plan the
+ * authentications required by a set of operations spanning several sectors.
+ *
+ * <p>Sector numbers follow the Mifare Classic memory organization: for Mifare Classic 1K, sectors 0
+ * to 15 contain 4 blocks each; for Mifare Classic 4K, sectors 0 to 31 contain 4 blocks each and
+ * sectors 32 to 39 contain 16 blocks each.
+ *
+ * @since 1.3.0
+ */
+public interface MifareClassicKeyProviderSpi {
+
+  /**
+   * Returns the key to be used to authenticate the specified sector of the card having the
+   * provided UID.
+   *
+   * <p>For each prepared command taking a key provider, this method is invoked at most once per
+   * sector and key type needed by this command. No guarantee is given across commands: the same
+   * key may be requested again by another command of the same transaction, e.g. by several
+   * authentications of the same sector, or with another key type. Wrapping the provider in a {@link
+   * MifareClassicKeyCache} avoids deriving the same key several times.
+   *
+   * <p>The key is requested when the command is prepared, except for the commands whose sector is
+   * only known at processing time (e.g. the writing of a transactional record), for which it is
+   * requested during the processing. A key obtained during the processing that is null or not
+   * exactly 6 bytes long causes the failure of the authentication: the processing is interrupted
+   * with an {@link IllegalStateException}, or, with {@link
+   * StorageCardTransactionManager#processCommandsWithResults(ChannelControl)}, this exception is
+   * reported as the one of the failed authentication. A runtime exception thrown by this method
+   * during the processing is propagated or reported in the same way.
+   *
+   * <p>The caller takes ownership of the returned array: the library overwrites it with zeros as
+   * soon as the key has been copied into the LOAD KEY APDU, or immediately if the key is rejected.
+   * The implementation must therefore return a new array at each invocation and must not keep any
+   * reference to it. An application invoking this method directly must zero the returned array
+   * after use in the same way.
+   *
+   * @param uid The UID of the card.
+   * @param sectorNumber The number of the sector to authenticate.
+   * @param mifareClassicKeyType The type of key requested (Key A or Key B).
+   * @return A new 6-byte array containing the key value.
+   * @since 1.3.0
+   */
+  byte[] getKey(byte[] uid, int sectorNumber, MifareClassicKeyType mifareClassicKeyType);
+}
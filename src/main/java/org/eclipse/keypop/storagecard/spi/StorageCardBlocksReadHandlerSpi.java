@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+
+/**
+ * Receives the blocks as soon as they are read during the processing of the commands by {@link
+ * StorageCardTransactionManager#processCommands(ChannelControl, StorageCardBlocksReadHandlerSpi)}.
+ *
+ * <p>This interface must be implemented by the application. It allows the application to start
+ * analyzing the data of a card (e.g. a ticket header) while the remaining blocks are still being
+ * read, and to stop the processing early (e.g. on a blacklisted card).
+ *
+ * <p>The method is invoked synchronously by the thread processing the commands.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardBlocksReadHandlerSpi {
+
+  /**
+   * Invoked each time a group of blocks has been read and stored in the memory image of the card.
+   *
+   * <p>For Mifare Classic cards, the blocks are delivered sector by sector. For the other card
+   * types, they are delivered read command by read command.
+   *
+   * @param card The card, whose memory image already contains the blocks read.
+   * @param fromBlockAddress The first block address read (inclusive).
+   * @param toBlockAddress The last block address read (inclusive).
+   * @return {@code true} to continue the processing, {@code false} to abort it, in which case the
+   *     remaining commands are not sent to the card.
+   * @since 1.3.0
+   */
+  boolean onBlocksRead(StorageCard card, int fromBlockAddress, int toBlockAddress);
+}
@@ -0,0 +1,55 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import java.util.List;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionSetting;
+
+/**
+ * Reader capable of transmitting several storage card commands in a single physical exchange.
+ *
+ * <p>This interface may be implemented by the {@link org.eclipse.keypop.reader.CardReader} provided
+ * to a transaction manager, for readers supporting multi-command frames. When command batching is
+ * enabled (see {@link StorageCardTransactionSetting#enableCommandBatching()}), the transaction
+ * manager packs consecutive commands into as few exchanges as possible, e.g. all the per-block READ
+ * commands of an ST25/SRT512 card and its system block read.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardMultiCommandReaderSpi {
+
+  /**
+   * Returns the maximum number of APDUs that can be transmitted in a single exchange.
+   *
+   * @return A number greater than or equal to 1.
+   * @since 1.3.0
+   */
+  int getMaxApdusPerExchange();
+
+  /**
+   * Transmits the provided APDUs to the card in a single physical exchange and returns their
+   * responses.
+   *
+   * <p>The APDUs are processed by the card in the provided order.
+   *
+   * @param apdus The APDU commands, whose number does not exceed {@link
+   *     #getMaxApdusPerExchange()}.
+   * @return A not null list containing the APDU responses, including the status words, in the same
+   *     order as the commands.
+   * @throws org.eclipse.keypop.reader.ReaderCommunicationException If the communication with the
+   *     reader failed.
+   * @throws org.eclipse.keypop.reader.CardCommunicationException If the communication with the card
+   *     failed.
+   * @since 1.3.0
+   */
+  List<byte[]> transmitApdus(List<byte[]> apdus);
+}
@@ -0,0 +1,34 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import org.eclipse.keypop.storagecard.personalization.StorageCardPersonalizationEngine;
+import org.eclipse.keypop.storagecard.personalization.StorageCardPersonalizationResult;
+
+/**
+ * Receives the results of the cards processed by a {@link StorageCardPersonalizationEngine}.
+ *
+ * <p>This interface must be implemented by the application. The method is invoked by the worker of
+ * the reader in which the card was processed, therefore concurrently when several readers are used.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardPersonalizationResultHandlerSpi {
+
+  /**
+   * Invoked after the processing of each card, whether it succeeded or not.
+   *
+   * @param result The result of the personalization.
+   * @since 1.3.0
+   */
+  void onCardProcessed(StorageCardPersonalizationResult result);
+}
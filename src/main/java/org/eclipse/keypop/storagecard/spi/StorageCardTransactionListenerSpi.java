@@ -0,0 +1,74 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.transaction.StorageCardCommandType;
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionManager;
+
+/**
+ * Receives timing information about the commands processed by a {@link
+ * StorageCardTransactionManager}.
+ *
+ * <p>This interface may be implemented by the application to monitor where the time of a
+ * transaction is spent (e.g. to feed histograms). All information is provided as primitive values
+ * so that no object is allocated for the notifications.
+ *
+ * <p>The methods are invoked synchronously by the thread processing the commands. Their
+ * implementation must therefore be fast and must not throw any exception.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardTransactionListenerSpi {
+
+  /**
+   * Invoked after the processing of each command, whether it succeeded or not.
+   *
+   * <p>The notified commands are the ones for which {@link
+   * StorageCardTransactionManager#processCommandsWithResults(ChannelControl)} returns a result, so
+   * a single preparation call may lead to several notifications. Skipped commands are not
+   * notified.
+   *
+   * <p>For commands that do not involve a block range (e.g. an authentication), {@code
+   * fromBlockAddress} and {@code toBlockAddress} are both equal to the block address provided when
+   * preparing the command. For ST25/SRT512 system block commands, they are both equal to 255.
+   *
+   * @param commandType The type of the command.
+   * @param fromBlockAddress The first block address involved (inclusive).
+   * @param toBlockAddress The last block address involved (inclusive).
+   * @param apduCount The number of APDUs exchanged with the card for this command.
+   * @param bytesTransferred The total number of bytes of the exchanged APDU commands and responses.
+   * @param durationNanos The elapsed time, in nanoseconds, needed to process the command.
+   * @param isSuccessful {@code true} if the command succeeded, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  void onCommandProcessed(
+      StorageCardCommandType commandType,
+      int fromBlockAddress,
+      int toBlockAddress,
+      int apduCount,
+      int bytesTransferred,
+      long durationNanos,
+      boolean isSuccessful);
+
+  /**
+   * Invoked at the end of each processing of the prepared commands, whether it succeeded or not.
+   *
+   * @param commandCount The number of commands processed.
+   * @param apduCount The total number of APDUs exchanged with the card.
+   * @param readerDurationNanos The elapsed time, in nanoseconds, spent waiting for the reader.
+   * @param durationNanos The total elapsed time, in nanoseconds, of the processing.
+   * @since 1.3.0
+   */
+  void onTransactionProcessed(
+      int commandCount, int apduCount, long readerDurationNanos, long durationNanos);
+}
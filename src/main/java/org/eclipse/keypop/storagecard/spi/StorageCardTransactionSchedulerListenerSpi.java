@@ -0,0 +1,46 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.spi;
+
+import org.eclipse.keypop.storagecard.transaction.StorageCardTransactionScheduler;
+
+/**
+ * Receives latency information about the work units executed by a {@link
+ * StorageCardTransactionScheduler}.
+ *
+ * <p>This interface may be implemented by the application to monitor the scheduler (e.g. to feed
+ * histograms). The method is invoked by the thread having executed the work unit, therefore
+ * concurrently for different readers. Its implementation must be fast and must not throw any
+ * exception.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardTransactionSchedulerListenerSpi {
+
+  /**
+   * Invoked after the execution of each work unit, whether it succeeded or not.
+   *
+   * @param readerName The name of the reader.
+   * @param queueWaitNanos The elapsed time, in nanoseconds, between the submission of the work unit
+   *     and the start of its execution.
+   * @param executionNanos The elapsed time, in nanoseconds, of the execution of the work unit.
+   * @param queueDepth The number of work units pending for the reader once this one is completed.
+   * @param isSuccessful {@code true} if the work unit succeeded, {@code false} otherwise.
+   * @since 1.3.0
+   */
+  void onWorkCompleted(
+      String readerName,
+      long queueWaitNanos,
+      long executionNanos,
+      int queueDepth,
+      boolean isSuccessful);
+}
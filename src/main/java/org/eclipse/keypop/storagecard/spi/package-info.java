@@ -0,0 +1,2 @@
+/** Contains the interfaces to be implemented by the application for the Storage Card API. */
+package org.eclipse.keypop.storagecard.spi;
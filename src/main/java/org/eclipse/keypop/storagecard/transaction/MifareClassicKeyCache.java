@@ -0,0 +1,62 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+
+/**
+ * Bounded cache of Mifare Classic keys wrapping a {@link MifareClassicKeyProviderSpi}.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createMifareClassicKeyCache(MifareClassicKeyProviderSpi, int, long)} and
+ * can be used wherever a key provider is expected. Keys are cached per UID, sector number and key
+ * type, so that the costly derivation of diversified keys (e.g. by a SAM or an HSM) is performed
+ * only once for repeated taps of the same card.
+ *
+ * <p>The cache holds at most the configured number of keys; when it is full, the least recently
+ * used key is evicted. A key is also evicted once its time-to-live has elapsed. The content of the
+ * evicted, invalidated or cleared keys is overwritten with zeros. The keys returned by {@link
+ * #getKey} are new copies of the cached keys, which are zeroed by their caller after use as
+ * required by {@link MifareClassicKeyProviderSpi#getKey}, so that no copy of a key remains on the
+ * heap beyond the cache itself.
+ *
+ * <p>The cache is thread-safe and can be shared by several transaction managers.
+ *
+ * @since 1.3.0
+ */
+public interface MifareClassicKeyCache extends MifareClassicKeyProviderSpi {
+
+  /**
+   * Removes all the cached keys of the card having the provided UID.
+   *
+   * @param uid The UID of the card.
+   * @throws IllegalArgumentException If the UID is null.
+   * @since 1.3.0
+   */
+  void invalidate(byte[] uid);
+
+  /**
+   * Removes all the cached keys.
+   *
+   * @since 1.3.0
+   */
+  void clear();
+
+  /**
+   * Returns the number of keys currently cached.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  int size();
+}
@@ -0,0 +1,66 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.reader.ChannelControl;
+import org.eclipse.keypop.storagecard.card.BlockRange;
+import org.eclipse.keypop.storagecard.spi.StorageCardTransactionListenerSpi;
+
+/**
+ * Result of a command processed in "continue on error" mode.
+ *
+ * @see StorageCardTransactionManager#processCommandsWithResults(ChannelControl)
+ * @since 1.3.0
+ */
+public interface StorageCardCommandResult {
+
+  /**
+   * Returns the type of the command.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  StorageCardCommandType getCommandType();
+
+  /**
+   * Returns the range of blocks targeted by the command.
+   *
+   * <p>The range follows the same convention as {@link
+   * StorageCardTransactionListenerSpi#onCommandProcessed(StorageCardCommandType, int, int, int,
+   * int, long, boolean)}: for commands that do not involve a block range (e.g. a Mifare Classic
+   * authentication), the first and last addresses are both equal to the block address provided
+   * when preparing the command; for ST25/SRT512 system block commands, they are both equal to 255.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  BlockRange getBlockRange();
+
+  /**
+   * Returns the outcome of the command.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  StorageCardCommandStatus getStatus();
+
+  /**
+   * Returns the exception that caused the command to fail or to be skipped.
+   *
+   * <p>For a skipped command, this is the exception of the failed command it depends on, as
+   * defined in {@link StorageCardTransactionManager#processCommandsWithResults(ChannelControl)}.
+   *
+   * @return The exception, or null if the command succeeded or was skipped without error.
+   * @since 1.3.0
+   */
+  RuntimeException getException();
+}
@@ -0,0 +1,45 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.reader.ChannelControl;
+
+/**
+ * Enumeration of the outcomes of a command processed in "continue on error" mode.
+ *
+ * @see StorageCardTransactionManager#processCommandsWithResults(ChannelControl)
+ * @since 1.3.0
+ */
+public enum StorageCardCommandStatus {
+
+  /**
+   * The command was successfully processed.
+   *
+   * @since 1.3.0
+   */
+  SUCCESSFUL,
+
+  /**
+   * The command was sent to the card and failed.
+   *
+   * @since 1.3.0
+   */
+  FAILED,
+
+  /**
+   * The command was not sent to the card, because it depended on a failed command, because the
+   * communication with the card was lost, or because the processing was aborted.
+   *
+   * @since 1.3.0
+   */
+  SKIPPED
+}
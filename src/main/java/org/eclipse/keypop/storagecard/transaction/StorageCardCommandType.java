@@ -0,0 +1,91 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+/**
+ * Enumeration of the types of commands that can be processed by a {@link
+ * StorageCardTransactionManager}.
+ *
+ * @since 1.3.0
+ */
+public enum StorageCardCommandType {
+
+  /**
+   * Reading of one or more blocks.
+   *
+   * @since 1.3.0
+   */
+  READ_BLOCKS,
+
+  /**
+   * Writing of one or more blocks.
+   *
+   * @since 1.3.0
+   */
+  WRITE_BLOCKS,
+
+  /**
+   * Mifare Classic sector authentication.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_CLASSIC_AUTHENTICATE,
+
+  /**
+   * Increment of a Mifare Classic value block.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_CLASSIC_INCREMENT,
+
+  /**
+   * Decrement of a Mifare Classic value block.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_CLASSIC_DECREMENT,
+
+  /**
+   * Restore of a Mifare Classic value block.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_CLASSIC_RESTORE,
+
+  /**
+   * Transfer of the Mifare Classic transfer buffer to a value block.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_CLASSIC_TRANSFER,
+
+  /**
+   * Reading of a range of Mifare Ultralight EV1 or NTAG pages with a single FAST_READ command.
+   *
+   * @since 1.3.0
+   */
+  MIFARE_ULTRALIGHT_FAST_READ,
+
+  /**
+   * Reading of the ST25/SRT512 system block.
+   *
+   * @since 1.3.0
+   */
+  ST25_READ_SYSTEM_BLOCK,
+
+  /**
+   * Writing of the ST25/SRT512 system block.
+   *
+   * @since 1.3.0
+   */
+  ST25_WRITE_SYSTEM_BLOCK
+}
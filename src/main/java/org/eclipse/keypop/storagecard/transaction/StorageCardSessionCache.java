@@ -0,0 +1,72 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.TransactionalRecordLayout;
+
+/**
+ * Cache of the blocks read from the cards, shared by the successive transaction managers of a
+ * customer interaction.
+ *
+ * <p>An instance is created with {@link StorageCardApiFactory#createStorageCardSessionCache()} and
+ * enabled with {@link StorageCardTransactionSetting#setSessionCache(StorageCardSessionCache)}. The
+ * blocks are cached per card UID and {@link ProductType}:
+ *
+ * <ul>
+ *   <li>Read commands whose blocks are all cached are served from the cache without any APDU
+ *       exchange, and the memory image of the card is updated as if they had been read. The
+ *       authentications planned by the library for such blocks (e.g. with {@link
+ *       StorageCardTransactionManager#prepareMifareClassicReadBlockSet}) are skipped, whereas
+ *       explicitly prepared authentications are always sent.
+ *   <li>Write commands invalidate the blocks they target, including the ST25/SRT512 system block.
+ *       The commands updating the memory image of the written blocks (see {@link
+ *       StorageCardTransactionManager}) update the cache with the same content instead, e.g.
+ *       {@link StorageCardTransactionManager#prepareWriteBlocksAndVerify(int, byte[])} with the
+ *       verified data.
+ *   <li>A Mifare Classic transfer (see {@link
+ *       StorageCardTransactionManager#prepareMifareClassicTransfer(int)}) is handled as a write of
+ *       its target block: the cache holds either the resulting value block or nothing for this
+ *       block, so that a value read after a debit is never served from before the debit. The
+ *       increment, decrement and restore commands do not modify any block and leave the cache
+ *       unchanged.
+ *   <li>A transactional record write (see {@link
+ *       StorageCardTransactionManager#prepareWriteTransactionalRecord(TransactionalRecordLayout,
+ *       byte[])}) updates the cached blocks of the written slot when the memory image is updated,
+ *       and invalidates them otherwise.
+ *   <li>All the entries of a card are invalidated as soon as the card is found to have left the
+ *       field, or when the physical channel is closed.
+ * </ul>
+ *
+ * <p>The cache is thread-safe.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardSessionCache {
+
+  /**
+   * Removes all the cached blocks of the card having the provided UID.
+   *
+   * @param uid The UID of the card.
+   * @throws IllegalArgumentException If the UID is null.
+   * @since 1.3.0
+   */
+  void invalidate(byte[] uid);
+
+  /**
+   * Removes all the cached blocks.
+   *
+   * @since 1.3.0
+   */
+  void clear();
+}
@@ -11,11 +11,20 @@
  ************************************************************************************** */
 package org.eclipse.keypop.storagecard.transaction;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.eclipse.keypop.reader.ChannelControl;
 import org.eclipse.keypop.reader.transaction.spi.CardTransactionManager;
 import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.SCWriteVerificationException;
 import org.eclipse.keypop.storagecard.card.ProductType;
 import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.card.TransactionalRecordLayout;
+import org.eclipse.keypop.storagecard.spi.MifareClassicKeyProviderSpi;
+import org.eclipse.keypop.storagecard.spi.StorageCardBlocksReadHandlerSpi;
 
 /**
  * Provides methods to manage APDU exchanges with a storage card.
@@ -44,7 +53,27 @@ import org.eclipse.keypop.storagecard.card.StorageCard;
  * not provide reliable confirmation of write completion. Applications should perform explicit read
  * operations after writes to verify the actual card content and update the memory image.
  *
- * <p>The process is interrupted at the first failed command.
+ * <p>Once such a write command is processed, successfully or not, the written blocks are marked as
+ * not loaded in the memory image (see {@link StorageCard#isBlockLoaded(int)}) until they are read
+ * again. This state belongs to the {@link StorageCard}, and is thus shared by all the transaction
+ * managers of the card: a later differential write, prepared by any of them, never relies on the
+ * former content of these blocks. The following commands update the memory image instead:
+ *
+ * <ul>
+ *   <li>{@link #prepareWriteBlocksAndVerify(int, byte[])}, once the written data has been read back
+ *       and verified,
+ *   <li>{@link #prepareWriteBlocksIfChanged(int, byte[])} and {@link
+ *       #prepareMifareClassicWriteBlocksIfChanged(int, byte[], MifareClassicKeyType,
+ *       MifareClassicKeyProviderSpi)}, as described for these methods,
+ *   <li>{@link #prepareMifareClassicTransfer(int)}, when the resulting value can be computed from
+ *       the memory image; otherwise, the target block is marked as not loaded,
+ *   <li>{@link #prepareWriteTransactionalRecord(TransactionalRecordLayout, byte[])} and its Mifare
+ *       Classic variant, for cards providing a reliable write acknowledgment; otherwise, the
+ *       written slot is marked as not loaded.
+ * </ul>
+ *
+ * <p>The process is interrupted at the first failed command. It can also be stopped on a business
+ * condition using {@link #prepareIf(Predicate, Consumer)} and {@link #prepareAbortIf(Predicate)}.
  *
  * @since 1.0.0
  */
@@ -171,6 +200,89 @@ public interface StorageCardTransactionManager
    */
   StorageCardTransactionManager prepareReadBlocks(int fromBlockAddress, int toBlockAddress);
 
+  /**
+   * Prepares the reading of a range of pages from a Mifare Ultralight EV1 or NTAG card using a
+   * single FAST_READ command.
+   *
+   * <p>Unlike {@link #prepareReadBlocks(int, int)}, which may be decomposed into several READ
+   * commands of {@link ProductType#getMaxBlocksPerReadCommand()} pages each, the whole range is
+   * retrieved with one APDU. If the range exceeds the maximum frame size of the reader, it is split
+   * into the fewest possible FAST_READ commands.
+   *
+   * <p>Block addresses start at 0 and the maximum value is equal to {@link
+   * ProductType#getBlockCount()} - 1.
+   *
+   * <p>Once this command is processed, the result is available in {@link StorageCard}.
+   *
+   * @param fromBlockAddress The starting page address (inclusive).
+   * @param toBlockAddress The ending page address (inclusive).
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is out of range.
+   * @throws UnsupportedOperationException If the current card type does not support the FAST_READ
+   *     command.
+   * @see ProductType#hasFastRead()
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareUltralightFastRead(
+      int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Prepares the reading of an unordered set of blocks from the storage card.
+   *
+   * <p>Block addresses start at 0 and the maximum value is equal to {@link
+   * ProductType#getBlockCount()} - 1. Duplicate addresses are ignored.
+   *
+   * <p>The addresses are sorted and contiguous addresses are merged so that the blocks are
+   * retrieved with the fewest possible read commands.
+   *
+   * <p>This method is intended for card types that do not require authentication. For Mifare
+   * Classic cards, use {@link #prepareMifareClassicReadBlockSet(MifareClassicKeyType,
+   * MifareClassicKeyProviderSpi, int...)} instead.
+   *
+   * <p>Once this command is processed, the result is available in {@link StorageCard}.
+   *
+   * @param blockAddresses The addresses of the blocks to be read, in any order.
+   * @return The current instance.
+   * @throws IllegalArgumentException If no block address is provided or if one of the block
+   *     addresses is out of range.
+   * @throws UnsupportedOperationException If the current card type requires authentication.
+   * @see ProductType#getBlockCount()
+   * @see ProductType#hasAuthentication()
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareReadBlockSet(int... blockAddresses);
+
+  /**
+   * Prepares the reading of an unordered set of blocks from a Mifare Classic card, including the
+   * needed authentications.
+   *
+   * <p>Block addresses start at 0 and the maximum value is equal to {@link
+   * ProductType#getBlockCount()} - 1. Duplicate addresses are ignored.
+   *
+   * <p>The addresses are grouped by sector. Each sector involved is authenticated only once, using
+   * the key of the requested type returned by the provided key provider, then the contiguous blocks
+   * of the sector are read with the fewest possible read commands. Sectors are processed in
+   * ascending order.
+   *
+   * <p>Once this command is processed, the result is available in {@link StorageCard}.
+   *
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the keys of the sectors to authenticate.
+   * @param blockAddresses The addresses of the blocks to be read, in any order.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null, if no block address is
+   *     provided or if one of the block addresses is out of range.
+   * @throws IllegalStateException If the key provider returns a null key or a key that is not
+   *     exactly 6 bytes long.
+   * @throws UnsupportedOperationException If the current card type does not support authentication.
+   * @see ProductType#getBlockCount()
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicReadBlockSet(
+      MifareClassicKeyType mifareClassicKeyType,
+      MifareClassicKeyProviderSpi keyProvider,
+      int... blockAddresses);
+
   /**
    * Prepares the writing of blocks of data to the storage card starting from a specific block
    * number offset.
@@ -197,6 +309,99 @@ public interface StorageCardTransactionManager
    */
   StorageCardTransactionManager prepareWriteBlocks(int fromBlockAddress, byte[] data);
 
+  /**
+   * Prepares the writing of blocks of data to the storage card starting from a specific block
+   * number offset, followed by the reading back of the written blocks.
+   *
+   * <p>The write and read commands are processed within the same call to {@link
+   * #processCommands(ChannelControl)}. The data read back is compared with the written data:
+   *
+   * <ul>
+   *   <li>If they match, the {@link StorageCard} memory image is updated with the written data, so
+   *       that no additional read is needed.
+   *   <li>If they differ, the written blocks are marked as not loaded in the memory image and a
+   *       {@link SCWriteVerificationException} is thrown.
+   * </ul>
+   *
+   * <p>The number of blocks that will be written is determined by the length of the data array
+   * divided by the block size of the storage card. For cards requiring authentication, the sectors
+   * involved must have been authenticated beforehand, as for {@link #prepareWriteBlocks(int,
+   * byte[])}.
+   *
+   * @param fromBlockAddress The offset from which the blocks will be written.
+   * @param data The data to be written to the storage card.
+   * @return The current instance.
+   * @throws IllegalArgumentException If data is null, if its length is not a multiple of the block
+   *     size, or if the blocks to be written are out of range.
+   * @see ProductType#getBlockSize()
+   * @see SCWriteVerificationException
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareWriteBlocksAndVerify(int fromBlockAddress, byte[] data);
+
+  /**
+   * Prepares the writing of the blocks of data that differ from the current content of the {@link
+   * StorageCard} memory image, starting from a specific block number offset.
+   *
+   * <p>The provided data is compared block by block with the memory image as it is when this method
+   * is invoked, and a write command is prepared only for the blocks whose content differs. Blocks
+   * that are not loaded in the memory image (see {@link StorageCard#isBlockLoaded(int)}), i.e.
+   * blocks never read and blocks written since they were last read without the memory image being
+   * updated, are considered as different and are always written, whatever the transaction manager
+   * that wrote them. If no block differs, no command is prepared.
+   *
+   * <p>This method is intended for card types that do not require authentication. For Mifare
+   * Classic cards, use {@link #prepareMifareClassicWriteBlocksIfChanged(int, byte[],
+   * MifareClassicKeyType, MifareClassicKeyProviderSpi)} instead.
+   *
+   * <p>Once the write command is processed, the memory image of the written blocks is updated with
+   * the written data if the card provides a reliable write acknowledgment (see {@link
+   * ProductType#hasWriteAcknowledgment()}). Otherwise, the written blocks are marked as not loaded
+   * (see {@link StorageCard#isBlockLoaded(int)}), so that a later differential write rewrites them.
+   * The memory image thus never holds a content that the card may not have.
+   *
+   * @param fromBlockAddress The offset from which the blocks will be written.
+   * @param data The data to be written to the storage card.
+   * @return The current instance.
+   * @throws IllegalArgumentException If data is null, if its length is not a multiple of the block
+   *     size, or if the blocks to be written are out of range.
+   * @throws UnsupportedOperationException If the current card type requires authentication.
+   * @see ProductType#getBlockSize()
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareWriteBlocksIfChanged(int fromBlockAddress, byte[] data);
+
+  /**
+   * Prepares the writing of the blocks of data that differ from the current content of the {@link
+   * StorageCard} memory image of a Mifare Classic card, including the needed authentications.
+   *
+   * <p>The blocks to be written are determined as described in {@link
+   * #prepareWriteBlocksIfChanged(int, byte[])}. Only the sectors containing at least one block to
+   * be written are authenticated, once each, using the key of the requested type returned by the
+   * provided key provider.
+   *
+   * <p>As Mifare Classic cards provide a reliable write acknowledgment, the memory image of the
+   * written blocks is updated with the written data once the write command is processed.
+   *
+   * @param fromBlockAddress The offset from which the blocks will be written.
+   * @param data The data to be written to the storage card.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the keys of the sectors to authenticate.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null, if the data length is not a
+   *     multiple of the block size, or if the blocks to be written are out of range.
+   * @throws IllegalStateException If the key provider returns a null key or a key that is not
+   *     exactly 6 bytes long.
+   * @throws UnsupportedOperationException If the current card type does not support authentication.
+   * @see ProductType#getBlockSize()
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicWriteBlocksIfChanged(
+      int fromBlockAddress,
+      byte[] data,
+      MifareClassicKeyType mifareClassicKeyType,
+      MifareClassicKeyProviderSpi keyProvider);
+
   /**
    * Prepares a Mifare Classic authentication command using a provided key.
    *
@@ -258,4 +463,437 @@ public interface StorageCardTransactionManager
    */
   StorageCardTransactionManager prepareMifareClassicAuthenticate(
       int blockAddress, MifareClassicKeyType mifareClassicKeyType, int keyNumber);
+
+  /**
+   * Prepares a Mifare Classic authentication command using a key resolved by a key provider.
+   *
+   * <p>This method is specific to Mifare Classic cards and must be called before reading from or
+   * writing to protected sectors. The authentication applies to the entire sector containing the
+   * specified block address.
+   *
+   * <p>The key is requested from the provided key provider with the UID of the card, the number of
+   * the sector containing the specified block address and the key type. This allows the use of
+   * keys diversified from the UID. Wrapping the provider in a {@link MifareClassicKeyCache} avoids
+   * deriving the same keys again on repeated taps of the same card.
+   *
+   * <p>As with {@link #prepareMifareClassicAuthenticate(int, MifareClassicKeyType, byte[])}, the
+   * key value is sent to the reader to be stored as a volatile key.
+   *
+   * @param blockAddress The address of any block within the sector to authenticate.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the key.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range, or if one of the other
+   *     arguments is null.
+   * @throws IllegalStateException If the key provider returns a null key or a key that is not
+   *     exactly 6 bytes long.
+   * @throws UnsupportedOperationException If the current card type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicAuthenticate(
+      int blockAddress,
+      MifareClassicKeyType mifareClassicKeyType,
+      MifareClassicKeyProviderSpi keyProvider);
+
+  /**
+   * Prepares the writing of a Mifare Classic value block.
+   *
+   * <p>The value is formatted as a value block, i.e. stored three times (once inverted) followed by
+   * the block address used as a backup pointer, so that the block can then be used with the
+   * increment, decrement, restore and transfer commands.
+   *
+   * <p>The sector containing the block must have been authenticated beforehand.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The initial value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @see StorageCard#getMifareClassicValue(int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicWriteValue(int blockAddress, int value);
+
+  /**
+   * Prepares the increment of a Mifare Classic value block.
+   *
+   * <p>The value of the block is added to the provided operand and the result is stored in the
+   * internal transfer buffer of the card. It must then be written with {@link
+   * #prepareMifareClassicTransfer(int)}, usually to the same block.
+   *
+   * <p>The sector containing the block must have been authenticated beforehand with a key allowing
+   * the increment.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The non-negative operand.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer,
+   *     or if the operand is negative.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicIncrement(int blockAddress, int value);
+
+  /**
+   * Prepares the decrement of a Mifare Classic value block.
+   *
+   * <p>The provided operand is subtracted from the value of the block and the result is stored in
+   * the internal transfer buffer of the card. It must then be written with {@link
+   * #prepareMifareClassicTransfer(int)}, usually to the same block.
+   *
+   * <p>A fare debit thus consists of a decrement followed by a transfer to the same block, both
+   * executed by the card without any prior read of the value.
+   *
+   * <p>The sector containing the block must have been authenticated beforehand with a key allowing
+   * the decrement.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The non-negative operand.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer,
+   *     or if the operand is negative.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicDecrement(int blockAddress, int value);
+
+  /**
+   * Prepares the restore of a Mifare Classic value block.
+   *
+   * <p>The value of the block is copied unchanged into the internal transfer buffer of the card,
+   * e.g. to back it up into another block with {@link #prepareMifareClassicTransfer(int)}.
+   *
+   * <p>The sector containing the block must have been authenticated beforehand.
+   *
+   * @param blockAddress The address of the value block.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicRestore(int blockAddress);
+
+  /**
+   * Prepares the transfer of the internal transfer buffer of a Mifare Classic card to a value
+   * block.
+   *
+   * <p>This command completes a preceding increment, decrement or restore command, which must
+   * target a block of the same sector.
+   *
+   * <p>If the source value was known from the memory image, the memory image of the target block is
+   * updated with the resulting value block. Otherwise, the target block is no longer considered as
+   * loaded, see {@link StorageCard#isBlockLoaded(int)}.
+   *
+   * @param blockAddress The address of the value block to write.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the current card type is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareMifareClassicTransfer(int blockAddress);
+
+  /**
+   * Prepares the reading of the two slots of a transactional record.
+   *
+   * <p>For Mifare Classic cards, both slots must be located in the same sector, which must have
+   * been authenticated beforehand. When the slots are located in different sectors, use {@link
+   * #prepareReadTransactionalRecord(TransactionalRecordLayout, MifareClassicKeyType,
+   * MifareClassicKeyProviderSpi)} instead.
+   *
+   * <p>Once this command is processed, the current record is available with {@link
+   * StorageCard#getTransactionalRecord(TransactionalRecordLayout)}.
+   *
+   * @param layout The layout of the record.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the layout is null, if it targets another product type, or
+   *     if its slots are located in different Mifare Classic sectors.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareReadTransactionalRecord(TransactionalRecordLayout layout);
+
+  /**
+   * Prepares the reading of the two slots of a transactional record stored on a Mifare Classic
+   * card, including the needed authentications.
+   *
+   * <p>Before reading each slot, the sector containing it is authenticated using the key of the
+   * requested type returned by the provided key provider. A sector containing both slots is
+   * authenticated only once.
+   *
+   * @param layout The layout of the record.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the keys of the sectors to authenticate.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null or if the layout targets
+   *     another product type.
+   * @throws UnsupportedOperationException If the current card type does not support authentication.
+   * @see #prepareReadTransactionalRecord(TransactionalRecordLayout)
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareReadTransactionalRecord(
+      TransactionalRecordLayout layout,
+      MifareClassicKeyType mifareClassicKeyType,
+      MifareClassicKeyProviderSpi keyProvider);
+
+  /**
+   * Prepares the writing of a new transactional record.
+   *
+   * <p>The slot to write and the new sequence counter are determined at processing time from the
+   * memory image: the slot not holding the current record is overwritten with the payload, the
+   * incremented sequence counter and the checksum. If no slot holds a valid record (e.g. on a fresh
+   * card), the first slot is written with the sequence counter 0. These rules are defined by {@link
+   * TransactionalRecordLayout}. If the card is torn away during the write, the current record
+   * remains intact in the other slot and is returned by the next read.
+   *
+   * <p>Once the command is processed:
+   *
+   * <ul>
+   *   <li>if the card provides a reliable write acknowledgment (see {@link
+   *       ProductType#hasWriteAcknowledgment()}), the memory image of the written slot is updated
+   *       and the new record becomes the current one, without any verification read,
+   *   <li>otherwise, the written slot is marked as not loaded (see {@link
+   *       StorageCard#isBlockLoaded(int)}) and the previous record remains the current one until a
+   *       read of the slots confirms the write. A subsequent transactional write then targets the
+   *       same slot again, so that the slot holding the only confirmed record is never overwritten.
+   * </ul>
+   *
+   * <p>The slot holding the current record must have been read beforehand, in the same transaction
+   * or in a previous one (see {@link #prepareReadTransactionalRecord(TransactionalRecordLayout)}).
+   * The other slot must have been read as well, unless it was marked as not loaded by a previous
+   * transactional write.
+   *
+   * <p>For Mifare Classic cards, both slots must be located in the same sector, which must have
+   * been authenticated beforehand. When the slots are located in different sectors, use {@link
+   * #prepareWriteTransactionalRecord(TransactionalRecordLayout, byte[], MifareClassicKeyType,
+   * MifareClassicKeyProviderSpi)} instead, the slot to write being only known at processing time.
+   *
+   * @param layout The layout of the record.
+   * @param payload The payload, whose length must be the payload size of the layout.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null, if the layout targets another
+   *     product type, if the payload length does not match the layout, or if the slots are located
+   *     in different Mifare Classic sectors.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareWriteTransactionalRecord(
+      TransactionalRecordLayout layout, byte[] payload);
+
+  /**
+   * Prepares the writing of a new transactional record on a Mifare Classic card, including the
+   * needed authentication.
+   *
+   * <p>The record is written as described in {@link
+   * #prepareWriteTransactionalRecord(TransactionalRecordLayout, byte[])}. Once the slot to write is
+   * determined at processing time, the sector containing it is authenticated using the key of the
+   * requested type returned by the provided key provider. The key is therefore requested during the
+   * processing, and an invalid key makes the processing fail as described in {@link
+   * MifareClassicKeyProviderSpi#getKey(byte[], int, MifareClassicKeyType)}.
+   *
+   * @param layout The layout of the record.
+   * @param payload The payload, whose length must be the payload size of the layout.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyProvider The provider of the keys of the sectors to authenticate.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null, if the layout targets another
+   *     product type or if the payload length does not match the layout.
+   * @throws UnsupportedOperationException If the current card type does not support authentication.
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareWriteTransactionalRecord(
+      TransactionalRecordLayout layout,
+      byte[] payload,
+      MifareClassicKeyType mifareClassicKeyType,
+      MifareClassicKeyProviderSpi keyProvider);
+
+  /**
+   * Prepares a group of commands to be processed only if a condition on the card is met.
+   *
+   * <p>The provided consumer is invoked immediately with the current instance to prepare the
+   * commands of the group, which are validated as usual. During the processing, once all the
+   * commands prepared before the group have been processed, the condition is evaluated on the
+   * {@link StorageCard} associated with the transaction. If it is not met, the commands of the
+   * group are not sent to the card and the processing continues with the commands prepared after
+   * the group.
+   *
+   * <p>Example: {@code prepareReadBlock(4).prepareIf(card -> isValidHeader(card.getBlock(4)), tm ->
+   * tm.prepareReadBlocks(8, 15))}
+   *
+   * <p>Groups can be nested. Note that the evaluation of a condition requires the preceding
+   * commands to be exchanged with the card first.
+   *
+   * @param condition The condition to be evaluated during the processing.
+   * @param commands The consumer preparing the commands of the group.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @see #prepareAbortIf(Predicate)
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareIf(
+      Predicate<StorageCard> condition, Consumer<StorageCardTransactionManager> commands);
+
+  /**
+   * Prepares the early abort of the processing if a condition on the card is met.
+   *
+   * <p>During the processing, once all the commands prepared before this call have been processed,
+   * the condition is evaluated on the {@link StorageCard} associated with the transaction. If it is
+   * met, the remaining commands are not sent to the card, no exception is thrown, and the physical
+   * channel is managed according to the {@link ChannelControl} provided to the processing method.
+   *
+   * <p>This allows, for example, to stop reading a card as soon as it is identified as invalid.
+   *
+   * @param condition The condition to be evaluated during the processing.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the condition is null.
+   * @see #prepareIf(Predicate, Consumer)
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareAbortIf(Predicate<StorageCard> condition);
+
+  /**
+   * Prepares all the commands of the provided template.
+   *
+   * <p>The commands of the template are added as they are to the prepared commands, without being
+   * validated nor built again. Once they are processed, the {@link StorageCard} memory image is
+   * updated as if the commands had been prepared individually.
+   *
+   * @param template The template.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the template is null or if it targets a product type other
+   *     than the one of the current card.
+   * @see StorageCardTransactionTemplate
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager prepareTransactionTemplate(StorageCardTransactionTemplate template);
+
+  /**
+   * Processes all previously prepared commands, delivering the blocks read to the provided handler
+   * as soon as they are available.
+   *
+   * <p>This method behaves as {@link #processCommands(ChannelControl)}, except that the handler is
+   * notified each time a group of blocks has been read (sector by sector for Mifare Classic cards).
+   * This allows the application to validate the first blocks without waiting for the remaining
+   * ones.
+   *
+   * <p>If the handler returns {@code false}, the processing is aborted: the remaining commands are
+   * not sent to the card, no exception is thrown, and the physical channel is managed according to
+   * {@code channelControl}.
+   *
+   * @param channelControl Policy for managing the physical channel after the processing of the
+   *     commands.
+   * @param blocksReadHandler The handler to be notified of the blocks read.
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @see StorageCardBlocksReadHandlerSpi
+   * @since 1.3.0
+   */
+  StorageCardTransactionManager processCommands(
+      ChannelControl channelControl, StorageCardBlocksReadHandlerSpi blocksReadHandler);
+
+  /**
+   * Processes all previously prepared commands without stopping at the first failure, and returns
+   * the outcome of each command.
+   *
+   * <p>Unlike {@link #processCommands(ChannelControl)}, a failing command does not interrupt the
+   * processing: the commands that do not depend on it are still sent to the card. For example, a
+   * wrong key on one Mifare Classic sector only causes the commands targeting this sector to be
+   * skipped, and the other sectors are still read.
+   *
+   * <p>A result is returned for each command resulting from the preparation methods, so a single
+   * preparation call may produce several results:
+   *
+   * <ul>
+   *   <li>a read split into several card commands (see {@link #prepareReadBlocks(int, int)}) gives
+   *       one {@link StorageCardCommandType#READ_BLOCKS} result per card command,
+   *   <li>{@link #prepareMifareClassicReadBlockSet(MifareClassicKeyType,
+   *       MifareClassicKeyProviderSpi, int...)} gives one authentication result per sector,
+   *       followed by one read result per contiguous range of blocks of this sector,
+   *   <li>a verified write gives a write result followed by a read result,
+   *   <li>a write if changed gives one write result per range of changed blocks, and no result if
+   *       no block has changed,
+   *   <li>a group prepared with {@link #prepareIf(Predicate, Consumer)} gives the results of the
+   *       commands it contains; when its condition is not met, they are all reported as {@link
+   *       StorageCardCommandStatus#SKIPPED} without exception.
+   * </ul>
+   *
+   * <p>The results are listed in the order in which the commands are processed, which is the
+   * preparation order.
+   *
+   * <p>A command is skipped, with the exception of the failed command it depends on, in the
+   * following cases only:
+   *
+   * <ul>
+   *   <li>it targets a Mifare Classic sector whose last authentication in the processing failed or
+   *       was skipped,
+   *   <li>it results from the same preparation call as a failed command (e.g. the read back of a
+   *       failed verified write),
+   *   <li>it is a {@link #prepareMifareClassicTransfer(int)} following a failed or skipped
+   *       increment, decrement or restore,
+   *   <li>it follows a loss of communication with the card or the reader, or an abort requested
+   *       with {@link #prepareAbortIf(Predicate)}; all the remaining commands are then skipped.
+   * </ul>
+   *
+   * <p>Any other command is sent to the card, whatever the failures of the previous ones.
+   *
+   * <p>The {@link StorageCard} memory image is updated with the blocks successfully read.
+   *
+   * @param channelControl Policy for managing the physical channel after the processing of the
+   *     commands.
+   * @return A not null list containing the result of each processed command, in the processing
+   *     order.
+   * @throws IllegalArgumentException If the channel control is null.
+   * @see StorageCardCommandResult
+   * @since 1.3.0
+   */
+  List<StorageCardCommandResult> processCommandsWithResults(ChannelControl channelControl);
+
+  /**
+   * Returns the number of physical exchanges with the reader during the last processing of
+   * commands.
+   *
+   * <p>Without command batching, it is equal to the number of APDUs transmitted. With command
+   * batching enabled on a capable reader, several APDUs may share the same exchange.
+   *
+   * @return A positive number, 0 if no processing has been performed yet.
+   * @see StorageCardTransactionSetting#enableCommandBatching()
+   * @since 1.3.0
+   */
+  int getExchangeCount();
+
+  /**
+   * Processes all previously prepared commands asynchronously using the provided executor.
+   *
+   * <p>This method is the non-blocking counterpart of {@link #processCommands(ChannelControl)}: it
+   * returns immediately and the card exchanges are performed by a task submitted to the provided
+   * executor. The returned future is completed with the {@link StorageCard} associated with the
+   * transaction once all the prepared commands have been processed, or completed exceptionally
+   * with the exception that {@link #processCommands(ChannelControl)} would have thrown.
+   *
+   * <p><strong>Threading:</strong> the implementation does not hold any monitor while waiting for
+   * the reader, so that the executor may safely be backed by virtual threads without pinning their
+   * carrier threads. A single small executor can thus serve many readers.
+   *
+   * <p><strong>Cancellation:</strong> cancelling the returned future before the task has started
+   * prevents any command from being sent to the card. Cancelling it afterwards prevents the
+   * remaining commands from being sent, but the APDU exchange in progress, if any, is always
+   * completed. In this case, the {@link StorageCard} memory image reflects the commands processed
+   * before the cancellation and the channel is left in the state requested by {@code
+   * channelControl}.
+   *
+   * <p><strong>Timeout:</strong> no timeout is applied by this method. The application may bound
+   * the processing time by waiting on the future with a timeout and cancelling it when the timeout
+   * expires, with the same effects as described above.
+   *
+   * <p>No other method of this transaction manager may be invoked until the returned future is
+   * completed.
+   *
+   * @param channelControl Policy for managing the physical channel after the processing of the
+   *     commands.
+   * @param executor The executor to be used to process the commands.
+   * @return A not null future completed with the {@link StorageCard} associated with the
+   *     transaction.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @throws IllegalStateException If a previous asynchronous processing is still in progress.
+   * @since 1.3.0
+   */
+  CompletableFuture<StorageCard> processCommandsAsync(
+      ChannelControl channelControl, Executor executor);
 }
@@ -0,0 +1,104 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+import org.eclipse.keypop.storagecard.spi.StorageCardTransactionSchedulerListenerSpi;
+
+/**
+ * Runs transaction work units for many readers concurrently on a bounded executor.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createStorageCardTransactionScheduler(Executor, int)} or {@link
+ * StorageCardApiFactory#createStorageCardTransactionScheduler(Executor, int,
+ * StorageCardTransactionSetting)}. Each work unit receives a transaction manager created with
+ * {@link StorageCardApiFactory#createStorageCardTransactionManager(CardReader, StorageCard,
+ * StorageCardTransactionSetting)} using the setting of the scheduler, if any, prepares its commands
+ * and processes them.
+ *
+ * <p>The scheduler guarantees that:
+ *
+ * <ul>
+ *   <li>the work units of a given reader are executed one at a time, in submission order,
+ *   <li>the readers are served fairly: a reader having pending work units never occupies more than
+ *       one task of the executor, so that a slow reader does not delay the others,
+ *   <li>the number of pending work units per reader is bounded: when a reader is too slow, new
+ *       submissions for this reader are rejected (backpressure).
+ * </ul>
+ *
+ * <p>The executor may be backed by virtual threads. The scheduler is thread-safe.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardTransactionScheduler {
+
+  /**
+   * Submits a work unit to be executed for the provided reader and card.
+   *
+   * @param reader The reader through which the card communicates.
+   * @param card The card data provided by the selection process.
+   * @param work The work unit, preparing and processing the commands with the provided transaction
+   *     manager.
+   * @return A not null future completed with the card once the work unit has been executed, or
+   *     completed exceptionally with the exception thrown by the work unit.
+   * @throws IllegalArgumentException If one of the arguments is null.
+   * @throws RejectedExecutionException If the maximum number of pending work units of the reader
+   *     is reached or if the scheduler is shut down.
+   * @since 1.3.0
+   */
+  CompletableFuture<StorageCard> submit(
+      CardReader reader, StorageCard card, Consumer<StorageCardTransactionManager> work);
+
+  /**
+   * Registers a listener to be notified of the execution of each work unit.
+   *
+   * <p>By default, no listener is registered.
+   *
+   * @param listener The listener.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the listener is null.
+   * @since 1.3.0
+   */
+  StorageCardTransactionScheduler setListener(StorageCardTransactionSchedulerListenerSpi listener);
+
+  /**
+   * Returns the number of work units submitted for the provided reader and not yet completed,
+   * including the one being executed.
+   *
+   * @param reader The reader.
+   * @return A positive number.
+   * @throws IllegalArgumentException If the reader is null.
+   * @since 1.3.0
+   */
+  int getQueueDepth(CardReader reader);
+
+  /**
+   * Returns the total number of work units submitted and not yet completed, all readers included.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  int getTotalQueueDepth();
+
+  /**
+   * Stops accepting new work units. The pending work units are still executed.
+   *
+   * @since 1.3.0
+   */
+  void shutdown();
+}
@@ -0,0 +1,81 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.storagecard.spi.StorageCardMultiCommandReaderSpi;
+import org.eclipse.keypop.storagecard.spi.StorageCardTransactionListenerSpi;
+
+/**
+ * Contains the optional settings of a {@link StorageCardTransactionManager}.
+ *
+ * <p>An instance is created with {@link
+ * org.eclipse.keypop.storagecard.StorageCardApiFactory#createStorageCardTransactionSetting()} and
+ * may be shared by several transaction managers.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardTransactionSetting {
+
+  /**
+   * Registers a listener to be notified of the commands processed by the transaction managers using
+   * this setting.
+   *
+   * <p>By default, no listener is registered.
+   *
+   * @param listener The listener.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the listener is null.
+   * @since 1.3.0
+   */
+  StorageCardTransactionSetting setTransactionListener(StorageCardTransactionListenerSpi listener);
+
+  /**
+   * Enables the provided session cache for the transaction managers using this setting.
+   *
+   * <p>By default, no session cache is used.
+   *
+   * @param sessionCache The session cache.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the session cache is null.
+   * @see StorageCardSessionCache
+   * @since 1.3.0
+   */
+  StorageCardTransactionSetting setSessionCache(StorageCardSessionCache sessionCache);
+
+  /**
+   * Enables the batching of commands for the transaction managers using this setting.
+   *
+   * <p>When the reader implements {@link StorageCardMultiCommandReaderSpi}, consecutive commands
+   * whose preparation does not depend on the response of a previous command of the same processing
+   * are packed into a single physical exchange, within the limit supported by the reader. This
+   * reduces the number of round trips, e.g. for card types reading one block per command.
+   *
+   * <p>The rule is the following: a command is packed with the previous ones only if it can be
+   * entirely built, and is to be sent whatever their outcome, before their responses are received.
+   * Any other command starts a new exchange once the responses it depends on have been processed.
+   * This is notably the case of the commands of conditional groups, of the read back of verified
+   * writes, of transactional record writes, whose slot and counter are determined from the memory
+   * image at processing time, and of authentications whose key is obtained from a key provider at
+   * processing time. Writes if changed are compared with the memory image when they are prepared,
+   * and can thus be batched.
+   *
+   * <p>When the reader does not implement {@link StorageCardMultiCommandReaderSpi}, this setting
+   * has no effect.
+   *
+   * <p>By default, command batching is disabled.
+   *
+   * @return The current instance.
+   * @see StorageCardTransactionManager#getExchangeCount()
+   * @since 1.3.0
+   */
+  StorageCardTransactionSetting enableCommandBatching();
+}
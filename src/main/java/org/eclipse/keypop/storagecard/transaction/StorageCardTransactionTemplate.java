@@ -0,0 +1,244 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.transaction;
+
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.StorageCardApiFactory;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.eclipse.keypop.storagecard.card.StorageCard;
+
+/**
+ * Pre-compiled sequence of commands to be executed identically on many cards of the same {@link
+ * ProductType}.
+ *
+ * <p>An instance is created with {@link
+ * StorageCardApiFactory#createStorageCardTransactionTemplate(ProductType)} and populated once with
+ * the same prepare methods as {@link StorageCardTransactionManager}. The arguments are validated
+ * and the APDUs are built when the commands are added to the template. The template is then added
+ * to the commands of any transaction manager handling a card of the same product type using {@link
+ * StorageCardTransactionManager#prepareTransactionTemplate(StorageCardTransactionTemplate)}, which
+ * removes the preparation cost from the processing of each card.
+ *
+ * <p>A template can no longer be modified once it has been used by a transaction manager. From then
+ * on, it can be safely shared between threads.
+ *
+ * @since 1.3.0
+ */
+public interface StorageCardTransactionTemplate {
+
+  /**
+   * Returns the product type targeted by the template.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  ProductType getProductType();
+
+  /**
+   * Adds the reading of the system block of an ST25/SRT512 storage card to the template.
+   *
+   * @return The current instance.
+   * @throws UnsupportedOperationException If the product type is not ST25/SRT512.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareSt25ReadSystemBlock()
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareSt25ReadSystemBlock();
+
+  /**
+   * Adds the writing of the system block of an ST25/SRT512 storage card to the template.
+   *
+   * @param data The data to be written to the system block. The length must match the card's block
+   *     size.
+   * @return The current instance.
+   * @throws IllegalArgumentException If data is null or its length does not match the block size.
+   * @throws UnsupportedOperationException If the product type is not ST25/SRT512.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareSt25WriteSystemBlock(byte[])
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareSt25WriteSystemBlock(byte[] data);
+
+  /**
+   * Adds the reading of a specific block to the template.
+   *
+   * @param blockAddress The address of the block to be read.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareReadBlock(int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareReadBlock(int blockAddress);
+
+  /**
+   * Adds the reading of a range of blocks to the template.
+   *
+   * <p>Once the commands of the template are processed, the result is available in {@link
+   * StorageCard}.
+   *
+   * @param fromBlockAddress The starting block address (inclusive).
+   * @param toBlockAddress The ending block address (inclusive).
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is out of range.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareReadBlocks(int, int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareReadBlocks(int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Adds the reading of a range of pages using a single FAST_READ command to the template.
+   *
+   * <p>Once the commands of the template are processed, the result is available in {@link
+   * StorageCard}.
+   *
+   * @param fromBlockAddress The starting page address (inclusive).
+   * @param toBlockAddress The ending page address (inclusive).
+   * @return The current instance.
+   * @throws IllegalArgumentException If one of the arguments is out of range.
+   * @throws UnsupportedOperationException If the product type of the template does not support the
+   *     FAST_READ command.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareUltralightFastRead(int, int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareUltralightFastRead(
+      int fromBlockAddress, int toBlockAddress);
+
+  /**
+   * Adds the writing of blocks of data to the template, starting from a specific block number
+   * offset.
+   *
+   * @param fromBlockAddress The offset from which the blocks will be written.
+   * @param data The data to be written to the storage card.
+   * @return The current instance.
+   * @throws IllegalArgumentException If data is null or its length is not a multiple of the block
+   *     size.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareWriteBlocks(int, byte[])
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareWriteBlocks(int fromBlockAddress, byte[] data);
+
+  /**
+   * Adds a Mifare Classic authentication using a provided key to the template.
+   *
+   * @param blockAddress The address of any block within the sector to authenticate.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param key The 6-byte key data for authentication.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range, or if the key is null or
+   *     not exactly 6 bytes long.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicAuthenticate(int, MifareClassicKeyType,
+   *     byte[])
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicAuthenticate(
+      int blockAddress, MifareClassicKeyType mifareClassicKeyType, byte[] key);
+
+  /**
+   * Adds a Mifare Classic authentication using a key stored in the reader to the template.
+   *
+   * @param blockAddress The address of any block within the sector to authenticate.
+   * @param mifareClassicKeyType The type of key to use (Key A or Key B).
+   * @param keyNumber The index of the key in the reader's key storage.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range, or if the key number is
+   *     invalid.
+   * @throws UnsupportedOperationException If the product type does not support authentication.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicAuthenticate(int, MifareClassicKeyType,
+   *     int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicAuthenticate(
+      int blockAddress, MifareClassicKeyType mifareClassicKeyType, int keyNumber);
+
+  /**
+   * Adds the writing of a Mifare Classic value block to the template.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The initial value.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the product type of the template is not a Mifare
+   *     Classic card.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicWriteValue(int, int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicWriteValue(int blockAddress, int value);
+
+  /**
+   * Adds the increment of a Mifare Classic value block to the template.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The non-negative operand.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer,
+   *     or if the operand is negative.
+   * @throws UnsupportedOperationException If the product type of the template is not a Mifare
+   *     Classic card.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicIncrement(int, int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicIncrement(int blockAddress, int value);
+
+  /**
+   * Adds the decrement of a Mifare Classic value block to the template.
+   *
+   * @param blockAddress The address of the value block.
+   * @param value The non-negative operand.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer,
+   *     or if the operand is negative.
+   * @throws UnsupportedOperationException If the product type of the template is not a Mifare
+   *     Classic card.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicDecrement(int, int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicDecrement(int blockAddress, int value);
+
+  /**
+   * Adds the restore of a Mifare Classic value block to the template.
+   *
+   * @param blockAddress The address of the value block.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the product type of the template is not a Mifare
+   *     Classic card.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicRestore(int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicRestore(int blockAddress);
+
+  /**
+   * Adds the transfer of the internal transfer buffer to a Mifare Classic value block to the
+   * template.
+   *
+   * @param blockAddress The address of the value block to write.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the block address is out of range or is a sector trailer.
+   * @throws UnsupportedOperationException If the product type of the template is not a Mifare
+   *     Classic card.
+   * @throws IllegalStateException If the template has already been used.
+   * @see StorageCardTransactionManager#prepareMifareClassicTransfer(int)
+   * @since 1.3.0
+   */
+  StorageCardTransactionTemplate prepareMifareClassicTransfer(int blockAddress);
+}
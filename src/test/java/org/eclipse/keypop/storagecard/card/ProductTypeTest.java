@@ -0,0 +1,90 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+public class ProductTypeTest {
+
+  @Test
+  public void sectors_shouldCoverAllBlocksContiguously() {
+    for (ProductType productType : ProductType.values()) {
+      if (!productType.hasSectors()) {
+        continue;
+      }
+      int expectedFirstBlock = 0;
+      for (int sector = 0; sector < productType.getSectorCount(); sector++) {
+        assertThat(productType.getFirstBlockOfSector(sector)).isEqualTo(expectedFirstBlock);
+        expectedFirstBlock += productType.getSectorBlockCount(sector);
+      }
+      assertThat(expectedFirstBlock).isEqualTo(productType.getBlockCount());
+    }
+  }
+
+  @Test
+  public void getSectorOfBlock_whenClassic4K_shouldHandleLargeSectors() {
+    ProductType productType = ProductType.MIFARE_CLASSIC_4K;
+    assertThat(productType.getSectorOfBlock(127)).isEqualTo(31);
+    assertThat(productType.getSectorOfBlock(128)).isEqualTo(32);
+    assertThat(productType.getSectorOfBlock(255)).isEqualTo(39);
+    assertThat(productType.getSectorTrailerBlockAddress(32)).isEqualTo(143);
+    assertThat(productType.isSectorTrailer(143)).isTrue();
+    assertThat(productType.isSectorTrailer(131)).isFalse();
+  }
+
+  @Test
+  public void getSectorOfBlock_whenClassic1K_shouldReturnBlockDividedByFour() {
+    ProductType productType = ProductType.MIFARE_CLASSIC_1K;
+    assertThat(productType.getSectorCount()).isEqualTo(16);
+    assertThat(productType.getSectorOfBlock(7)).isEqualTo(1);
+    assertThat(productType.isSectorTrailer(7)).isTrue();
+  }
+
+  @Test
+  public void getSectorOfBlock_whenNoSectors_shouldThrowUOE() {
+    assertThatThrownBy(() -> ProductType.ST25_SRT512.getSectorOfBlock(0))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void getSectorOfBlock_whenOutOfRange_shouldThrowIAE() {
+    assertThatThrownBy(() -> ProductType.MIFARE_CLASSIC_1K.getSectorOfBlock(64))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void userMemory_shouldBeWithinMainMemory() {
+    for (ProductType productType : ProductType.values()) {
+      assertThat(productType.getFirstUserBlockAddress()).isBetween(0, productType.getBlockCount());
+      assertThat(productType.getLastUserBlockAddress())
+          .isBetween(productType.getFirstUserBlockAddress(), productType.getBlockCount() - 1);
+    }
+  }
+
+  @Test
+  public void userMemory_whenUltralightOrNtag_shouldExcludeReservedPages() {
+    assertThat(ProductType.MIFARE_ULTRALIGHT.getFirstUserBlockAddress()).isEqualTo(4);
+    assertThat(ProductType.MIFARE_ULTRALIGHT.getLastUserBlockAddress()).isEqualTo(15);
+    assertThat(ProductType.NTAG213.getFirstUserBlockAddress()).isEqualTo(4);
+    assertThat(ProductType.NTAG213.getLastUserBlockAddress()).isEqualTo(39);
+    assertThat(ProductType.NTAG216.getLastUserBlockAddress()).isEqualTo(225);
+  }
+
+  @Test
+  public void getMaxBlocksPerReadCommand_shouldBeFourForUltralight() {
+    assertThat(ProductType.MIFARE_ULTRALIGHT.getMaxBlocksPerReadCommand()).isEqualTo(4);
+    assertThat(ProductType.MIFARE_CLASSIC_1K.getMaxBlocksPerReadCommand()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,51 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class StorageCardSnapshotFormatTest {
+
+  @Test
+  public void getProductTypeCode_shouldBeUniqueForEachProductType() {
+    Set<Integer> codes = new HashSet<Integer>();
+    for (ProductType productType : ProductType.values()) {
+      codes.add(StorageCardSnapshotFormat.getProductTypeCode(productType));
+    }
+    assertThat(codes).hasSize(ProductType.values().length);
+  }
+
+  @Test
+  public void getProductType_shouldReturnProductTypeOfCode() {
+    for (ProductType productType : ProductType.values()) {
+      int code = StorageCardSnapshotFormat.getProductTypeCode(productType);
+      assertThat(StorageCardSnapshotFormat.getProductType(code)).isEqualTo(productType);
+    }
+  }
+
+  @Test
+  public void getProductTypeCode_whenNull_shouldThrowIAE() {
+    assertThatThrownBy(() -> StorageCardSnapshotFormat.getProductTypeCode(null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void getProductType_whenUnknownCode_shouldThrowIAE() {
+    assertThatThrownBy(() -> StorageCardSnapshotFormat.getProductType(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,198 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.keypop.storagecard.SCAuthenticationFailedException;
+import org.eclipse.keypop.storagecard.SCCardCommunicationException;
+import org.eclipse.keypop.storagecard.SCReaderCommunicationException;
+import org.eclipse.keypop.storagecard.card.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SimulatedCardReaderTest {
+
+  private static final byte[] UID = {1, 2, 3, 4};
+  private static final byte[] SW_SUCCESS = {(byte) 0x90, 0x00};
+  private static final byte[] SW_AUTHENTICATION_FAILED = {(byte) 0x63, 0x00};
+  private static final byte[] SW_WRONG_LENGTH = {(byte) 0x67, 0x00};
+  private static final byte[] SW_SECURITY_STATUS_NOT_SATISFIED = {(byte) 0x69, (byte) 0x82};
+  private static final byte[] SW_INS_NOT_SUPPORTED = {(byte) 0x6D, 0x00};
+
+  private SimulatedCardReader reader;
+
+  @BeforeEach
+  public void setUp() {
+    reader = new SimulatedCardReader("READER");
+  }
+
+  @Test
+  public void transmitApdu_whenNoCard_shouldThrowSCCardCommunicationException() {
+    assertThatThrownBy(() -> reader.transmitApdu(apdu("FFCA000000")))
+        .isInstanceOf(SCCardCommunicationException.class);
+  }
+
+  @Test
+  public void transmitApdu_getData_shouldReturnUid() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.ST25_SRT512, UID));
+    assertThat(reader.transmitApdu(apdu("FFCA000000"))).containsExactly(1, 2, 3, 4, 0x90, 0x00);
+  }
+
+  @Test
+  public void transmitApdu_ultralightReadBinary_shouldReturnFourPages() {
+    SimulatedStorageCard card = new SimulatedStorageCard(ProductType.MIFARE_ULTRALIGHT, UID);
+    card.setBlock(5, new byte[] {5, 5, 5, 5});
+    reader.insertCard(card);
+    byte[] response = reader.transmitApdu(apdu("FFB0000410"));
+    assertThat(response).hasSize(18);
+    assertThat(response[4]).isEqualTo((byte) 5);
+  }
+
+  @Test
+  public void transmitApdu_ultralightReadBinaryPastLastPage_shouldWrapAroundToPageZero() {
+    SimulatedStorageCard card = new SimulatedStorageCard(ProductType.MIFARE_ULTRALIGHT, UID);
+    card.setBlock(15, new byte[] {15, 15, 15, 15});
+    card.setBlock(0, new byte[] {9, 9, 9, 9});
+    reader.insertCard(card);
+    byte[] response = reader.transmitApdu(apdu("FFB0000E10"));
+    assertThat(response).hasSize(18);
+    assertThat(response[4]).isEqualTo((byte) 15);
+    assertThat(response[8]).isEqualTo((byte) 9);
+  }
+
+  @Test
+  public void transmitApdu_ntagReadBinary_shouldBeLimitedToFourPages() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.NTAG213, UID));
+    assertThat(reader.transmitApdu(apdu("FFB0000010"))).hasSize(18);
+    assertThat(reader.transmitApdu(apdu("FFB00000B4"))).isEqualTo(SW_WRONG_LENGTH);
+  }
+
+  @Test
+  public void transmitApdu_ntagFastRead_shouldReturnWholeRangeInOneApdu() {
+    SimulatedStorageCard card = new SimulatedStorageCard(ProductType.NTAG213, UID);
+    card.setBlock(44, new byte[] {4, 4, 4, 4});
+    reader.insertCard(card);
+    byte[] response = reader.transmitApdu(apdu("FF000000033A002C"));
+    assertThat(response).hasSize(182);
+    assertThat(response[176]).isEqualTo((byte) 4);
+  }
+
+  @Test
+  public void transmitApdu_ultralightFastRead_shouldNotBeSupported() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_ULTRALIGHT, UID));
+    assertThat(reader.transmitApdu(apdu("FF000000033A000F"))).isEqualTo(SW_INS_NOT_SUPPORTED);
+  }
+
+  @Test
+  public void transmitApdus_shouldProcessAllApdusInOneExchange() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.ST25_SRT512, UID));
+    List<byte[]> responses =
+        reader.transmitApdus(
+            Arrays.asList(apdu("FFB0000004"), apdu("FFB0000104"), apdu("FFB000FF04")));
+    assertThat(responses).hasSize(3);
+    assertThat(reader.getApduCount()).isEqualTo(3);
+    assertThat(reader.getExchangeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void transmitApdu_st25WriteSystemBlock_shouldUpdateSystemBlock() {
+    SimulatedStorageCard card = new SimulatedStorageCard(ProductType.ST25_SRT512, UID);
+    reader.insertCard(card);
+    assertThat(reader.transmitApdu(apdu("FFD600FF0411223344"))).isEqualTo(SW_SUCCESS);
+    assertThat(card.getSystemBlock()).containsExactly(0x11, 0x22, 0x33, 0x44);
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicReadWithoutAuthentication_shouldBeRejected() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID));
+    assertThat(reader.transmitApdu(apdu("FFB0000410"))).isEqualTo(SW_SECURITY_STATUS_NOT_SATISFIED);
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicAuthenticateWithDefaultKey_shouldGrantSectorAccess() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_4K, UID));
+    assertThat(reader.transmitApdu(apdu("FF82000006FFFFFFFFFFFF"))).isEqualTo(SW_SUCCESS);
+    assertThat(reader.transmitApdu(apdu("FF860000050100806000"))).isEqualTo(SW_SUCCESS);
+    assertThat(reader.transmitApdu(apdu("FFB0008F10"))).hasSize(18);
+    assertThat(reader.transmitApdu(apdu("FFB0009010"))).isEqualTo(SW_SECURITY_STATUS_NOT_SATISFIED);
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicAuthenticateWithWrongKey_shouldFail() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID));
+    reader.transmitApdu(apdu("FF82000006A0A1A2A3A4A5"));
+    assertThat(reader.transmitApdu(apdu("FF860000050100046100")))
+        .isEqualTo(SW_AUTHENTICATION_FAILED);
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicReadTrailerInTransportConfiguration_shouldHideKeyAOnly() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID));
+    reader.transmitApdu(apdu("FF82000006FFFFFFFFFFFF"));
+    reader.transmitApdu(apdu("FF860000050100046000"));
+    assertThat(reader.transmitApdu(apdu("FFB0000710")))
+        .isEqualTo(apdu("000000000000FF078069FFFFFFFFFFFF9000"));
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicKeyBReadable_shouldGrantNoAccessWithKeyB() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID));
+    reader.transmitApdu(apdu("FF82000006FFFFFFFFFFFF"));
+    assertThat(reader.transmitApdu(apdu("FF860000050100046100"))).isEqualTo(SW_SUCCESS);
+    assertThat(reader.transmitApdu(apdu("FFB0000410"))).isEqualTo(SW_SECURITY_STATUS_NOT_SATISFIED);
+  }
+
+  @Test
+  public void transmitApdu_mifareClassicTrailerWrittenWithKeyB_shouldHideKeyB() {
+    SimulatedStorageCard card = new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID);
+    // Sector trailer access condition 011, data blocks access condition 000
+    card.setMifareClassicSectorTrailer(
+        1, apdu("A0A1A2A3A4A5"), apdu("7F078869"), apdu("B0B1B2B3B4B5"));
+    reader.insertCard(card);
+    reader.transmitApdu(apdu("FF82000006A0A1A2A3A4A5"));
+    reader.transmitApdu(apdu("FF860000050100046000"));
+    assertThat(reader.transmitApdu(apdu("FFB0000710")))
+        .isEqualTo(apdu("0000000000007F0788690000000000009000"));
+    assertThat(reader.transmitApdu(apdu("FFD6000710C0C1C2C3C4C57F078869D0D1D2D3D4D5")))
+        .isEqualTo(SW_SECURITY_STATUS_NOT_SATISFIED);
+    reader.transmitApdu(apdu("FF82000006B0B1B2B3B4B5"));
+    reader.transmitApdu(apdu("FF860000050100046100"));
+    assertThat(reader.transmitApdu(apdu("FFD6000710C0C1C2C3C4C57F078869D0D1D2D3D4D5")))
+        .isEqualTo(SW_SUCCESS);
+    assertThat(card.getBlock(7)).isEqualTo(apdu("C0C1C2C3C4C57F078869D0D1D2D3D4D5"));
+  }
+
+  @Test
+  public void transmitApdu_whenFaultInjected_shouldThrowCorrespondingException() {
+    reader.insertCard(new SimulatedStorageCard(ProductType.MIFARE_CLASSIC_1K, UID));
+    reader.injectFault(SimulatedFault.READER_COMMUNICATION);
+    assertThatThrownBy(() -> reader.transmitApdu(apdu("FFCA000000")))
+        .isInstanceOf(SCReaderCommunicationException.class);
+    reader.injectFault(SimulatedFault.AUTHENTICATION);
+    assertThat(reader.transmitApdu(apdu("FF82000006FFFFFFFFFFFF"))).isEqualTo(SW_SUCCESS);
+    assertThatThrownBy(() -> reader.transmitApdu(apdu("FF860000050100046000")))
+        .isInstanceOf(SCAuthenticationFailedException.class);
+    assertThat(reader.getApduCount()).isEqualTo(3);
+  }
+
+  private static byte[] apdu(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,386 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.SCAuthenticationFailedException;
+import org.eclipse.keypop.storagecard.SCCardCommunicationException;
+import org.eclipse.keypop.storagecard.SCReaderCommunicationException;
+import org.eclipse.keypop.storagecard.spi.StorageCardMultiCommandReaderSpi;
+
+/**
+ * In-memory simulation of a contactless PC/SC reader holding a {@link SimulatedStorageCard}.
+ *
+ * <p>It allows running load and soak tests of applications and implementations of the Storage Card
+ * API without physical cards. The APDUs are provided to {@link #transmitApdu(byte[])} and processed
+ * by the inserted card. The following PC/SC storage card commands are supported:
+ *
+ * <ul>
+ *   <li>GET DATA (UID): {@code FF CA 00 00 00}
+ *   <li>READ BINARY: {@code FF B0 00 <block address> <length>}
+ *   <li>UPDATE BINARY: {@code FF D6 00 <block address> <length> <data>}
+ *   <li>LOAD KEY (volatile): {@code FF 82 00 <key number> 06 <key>}
+ *   <li>GENERAL AUTHENTICATE: {@code FF 86 00 00 05 01 00 <block address> <60|61> <key number>}
+ *   <li>FAST_READ (direct transmit): {@code FF 00 00 00 03 3A <start page> <end page>}
+ * </ul>
+ *
+ * <p>Several APDUs can be transmitted in a single exchange with {@link #transmitApdus(List)}, as
+ * done by readers supporting multi-command frames.
+ *
+ * <p><b>Connection to an implementation</b>
+ *
+ * <p>The Keypop {@link CardReader} interface has no transmission method: an implementation of the
+ * Storage Card API reaches the card through its own reader layer, from the {@link CardReader}
+ * instance provided to its transaction managers. This class must therefore be registered in this
+ * layer through an adapter, provided by the test environment of the implementation, which:
+ *
+ * <ul>
+ *   <li>provides the application with a {@link CardReader} of the implementation whose name,
+ *       contactless status and card presence are those of this instance,
+ *   <li>delegates each APDU transmission of the implementation to {@link #transmitApdu(byte[])},
+ *   <li>delegates each multi-command exchange to {@link #transmitApdus(List)}, when the
+ *       implementation supports {@link StorageCardMultiCommandReaderSpi},
+ *   <li>propagates the exceptions thrown by these methods unchanged.
+ * </ul>
+ *
+ * <p>With Eclipse Keyple, for example, the adapter is the reader of a test plugin whose {@code
+ * ReaderSpi.transmitApdu(byte[])} and {@code ReaderSpi.checkCardPresence()} methods delegate to
+ * {@link #transmitApdu(byte[])} and {@link #isCardPresent()}, the physical channel operations
+ * having no effect. The {@code StorageCardBenchmarkEnvironment} of the JMH benchmarks is expected
+ * to return the {@link CardReader} obtained this way.
+ *
+ * <p>A latency can be applied to each APDU and to each exchange, to model respectively the card
+ * processing time and the reader round trip. It is implemented without holding any monitor so that
+ * the simulated reader can be driven from virtual threads.
+ *
+ * <p>Faults can be injected either on the next APDU with {@link #injectFault(SimulatedFault)} or
+ * randomly with {@link #setFaultProbability(SimulatedFault, double)}.
+ *
+ * <p>This class is not thread-safe: each instance must be used by one thread at a time.
+ *
+ * @since 1.3.0
+ */
+public final class SimulatedCardReader
+    implements CardReader, StorageCardMultiCommandReaderSpi {
+
+  private static final byte[] SW_CLA_NOT_SUPPORTED = {(byte) 0x6E, (byte) 0x00};
+  private static final byte CLA = (byte) 0xFF;
+  private static final byte INS_DIRECT_TRANSMIT = (byte) 0x00;
+  private static final byte INS_GET_DATA = (byte) 0xCA;
+  private static final byte INS_READ_BINARY = (byte) 0xB0;
+  private static final byte INS_UPDATE_BINARY = (byte) 0xD6;
+  private static final byte INS_LOAD_KEY = (byte) 0x82;
+  private static final byte INS_GENERAL_AUTHENTICATE = (byte) 0x86;
+  private static final byte KEY_TYPE_A = (byte) 0x60;
+  private static final byte CMD_FAST_READ = (byte) 0x3A;
+  private static final int KEY_SIZE = 6;
+  private static final int MAX_APDUS_PER_EXCHANGE = 16;
+
+  private final String name;
+  private final Map<Integer, byte[]> keys = new HashMap<Integer, byte[]>();
+  private final Map<SimulatedFault, Double> faultProbabilities =
+      new EnumMap<SimulatedFault, Double>(SimulatedFault.class);
+  private final Random random = new Random();
+  private SimulatedStorageCard card;
+  private long apduLatencyNanos;
+  private long exchangeLatencyNanos;
+  private SimulatedFault pendingFault;
+  private long apduCount;
+  private long exchangeCount;
+
+  /**
+   * Creates a new simulated reader without card.
+   *
+   * @param name The name of the reader.
+   * @since 1.3.0
+   */
+  public SimulatedCardReader(String name) {
+    this.name = name;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isContactless() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public boolean isCardPresent() {
+    return card != null;
+  }
+
+  /**
+   * Inserts a card in the RF field of the reader, replacing the current one if any.
+   *
+   * @param card The card.
+   * @since 1.3.0
+   */
+  public void insertCard(SimulatedStorageCard card) {
+    removeCard();
+    this.card = card;
+  }
+
+  /**
+   * Removes the current card from the RF field of the reader, if any.
+   *
+   * <p>The volatile state of the card (authentication) and the volatile keys of the reader are
+   * reset.
+   *
+   * @since 1.3.0
+   */
+  public void removeCard() {
+    if (card != null) {
+      card.reset();
+      card = null;
+    }
+    keys.clear();
+  }
+
+  /**
+   * Sets the latency applied to each APDU exchange.
+   *
+   * <p>When several APDUs are transmitted in a single exchange, the latency is applied to each of
+   * them.
+   *
+   * @param latency The latency, 0 for none (default value).
+   * @param unit The time unit of the latency.
+   * @since 1.3.0
+   */
+  public void setApduLatency(long latency, TimeUnit unit) {
+    apduLatencyNanos = unit.toNanos(latency);
+  }
+
+  /**
+   * Sets the latency applied to each exchange, whatever the number of APDUs it contains.
+   *
+   * <p>This latency is added to the one applied to each APDU (see {@link #setApduLatency(long,
+   * TimeUnit)}).
+   *
+   * @param latency The latency, 0 for none (default value).
+   * @param unit The time unit of the latency.
+   * @since 1.3.0
+   */
+  public void setExchangeLatency(long latency, TimeUnit unit) {
+    exchangeLatencyNanos = unit.toNanos(latency);
+  }
+
+  /**
+   * Sets the probability that a fault occurs on each APDU exchange.
+   *
+   * @param fault The fault.
+   * @param probability The probability, from 0 (never, default value) to 1 (always).
+   * @since 1.3.0
+   */
+  public void setFaultProbability(SimulatedFault fault, double probability) {
+    faultProbabilities.put(fault, probability);
+  }
+
+  /**
+   * Sets the seed of the random generator used for the fault injection, to make a test
+   * reproducible.
+   *
+   * @param seed The seed.
+   * @since 1.3.0
+   */
+  public void setRandomSeed(long seed) {
+    random.setSeed(seed);
+  }
+
+  /**
+   * Injects a fault on the next APDU exchange (on the next authentication APDU for {@link
+   * SimulatedFault#AUTHENTICATION}).
+   *
+   * @param fault The fault.
+   * @since 1.3.0
+   */
+  public void injectFault(SimulatedFault fault) {
+    pendingFault = fault;
+  }
+
+  /**
+   * Returns the number of APDUs transmitted since the creation of the reader.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  public long getApduCount() {
+    return apduCount;
+  }
+
+  /**
+   * Returns the number of physical exchanges performed since the creation of the reader.
+   *
+   * @return A positive number.
+   * @since 1.3.0
+   */
+  public long getExchangeCount() {
+    return exchangeCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public int getMaxApdusPerExchange() {
+    return MAX_APDUS_PER_EXCHANGE;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The faults are applied to each APDU as with {@link #transmitApdu(byte[])}.
+   *
+   * @since 1.3.0
+   */
+  @Override
+  public List<byte[]> transmitApdus(List<byte[]> apdus) {
+    if (apdus.size() > MAX_APDUS_PER_EXCHANGE) {
+      throw new IllegalArgumentException("Too many APDUs: " + apdus.size());
+    }
+    exchangeCount++;
+    applyLatency(exchangeLatencyNanos);
+    List<byte[]> responses = new ArrayList<byte[]>(apdus.size());
+    for (byte[] apdu : apdus) {
+      responses.add(transmit(apdu));
+    }
+    return responses;
+  }
+
+  /**
+   * Transmits an APDU to the card in a dedicated exchange and returns its response.
+   *
+   * @param apdu The APDU command.
+   * @return The APDU response, including the status word.
+   * @throws SCReaderCommunicationException If a reader communication fault is injected.
+   * @throws SCCardCommunicationException If no card is present or if a card communication fault is
+   *     injected.
+   * @throws SCAuthenticationFailedException If an authentication fault is injected.
+   * @since 1.3.0
+   */
+  public byte[] transmitApdu(byte[] apdu) {
+    exchangeCount++;
+    applyLatency(exchangeLatencyNanos);
+    return transmit(apdu);
+  }
+
+  private byte[] transmit(byte[] apdu) {
+    apduCount++;
+    applyLatency(apduLatencyNanos);
+    boolean isAuthentication = apdu.length > 1 && apdu[1] == INS_GENERAL_AUTHENTICATE;
+    if (isFaultTriggered(SimulatedFault.READER_COMMUNICATION)) {
+      throw new SCReaderCommunicationException(null, "Simulated reader communication failure");
+    }
+    if (card == null) {
+      throw new SCCardCommunicationException(null, "No card present");
+    }
+    if (isFaultTriggered(SimulatedFault.CARD_COMMUNICATION)) {
+      throw new SCCardCommunicationException(null, "Simulated card communication failure");
+    }
+    if (isAuthentication && isFaultTriggered(SimulatedFault.AUTHENTICATION)) {
+      Integer blockAddress = apdu.length > 7 ? apdu[7] & 0xFF : null;
+      throw new SCAuthenticationFailedException(blockAddress, "Simulated authentication failure");
+    }
+    return processApdu(apdu);
+  }
+
+  private byte[] processApdu(byte[] apdu) {
+    if (apdu.length < 5) {
+      return SimulatedStorageCard.SW_WRONG_LENGTH;
+    }
+    if (apdu[0] != CLA) {
+      return SW_CLA_NOT_SUPPORTED;
+    }
+    int p1 = apdu[2] & 0xFF;
+    int p2 = apdu[3] & 0xFF;
+    int p3 = apdu[4] & 0xFF;
+    switch (apdu[1]) {
+      case INS_GET_DATA:
+        return SimulatedStorageCard.concat(card.getUid(), SimulatedStorageCard.SW_SUCCESS);
+      case INS_READ_BINARY:
+        return card.readBinary((p1 << 8) | p2, p3 == 0 ? 256 : p3);
+      case INS_UPDATE_BINARY:
+        if (apdu.length != 5 + p3) {
+          return SimulatedStorageCard.SW_WRONG_LENGTH;
+        }
+        return card.updateBinary((p1 << 8) | p2, Arrays.copyOfRange(apdu, 5, apdu.length));
+      case INS_LOAD_KEY:
+        if (p3 != KEY_SIZE || apdu.length != 5 + KEY_SIZE) {
+          return SimulatedStorageCard.SW_WRONG_LENGTH;
+        }
+        keys.put(p2, Arrays.copyOfRange(apdu, 5, apdu.length));
+        return SimulatedStorageCard.SW_SUCCESS;
+      case INS_GENERAL_AUTHENTICATE:
+        if (apdu.length != 10) {
+          return SimulatedStorageCard.SW_WRONG_LENGTH;
+        }
+        MifareClassicKeyType keyType =
+            apdu[8] == KEY_TYPE_A ? MifareClassicKeyType.KEY_A : MifareClassicKeyType.KEY_B;
+        return card.authenticate(apdu[7] & 0xFF, keyType, keys.get(apdu[9] & 0xFF));
+      case INS_DIRECT_TRANSMIT:
+        if (p3 != 3 || apdu.length != 8 || apdu[5] != CMD_FAST_READ) {
+          return SimulatedStorageCard.SW_INS_NOT_SUPPORTED;
+        }
+        return card.fastRead(apdu[6] & 0xFF, apdu[7] & 0xFF);
+      default:
+        return SimulatedStorageCard.SW_INS_NOT_SUPPORTED;
+    }
+  }
+
+  private boolean isFaultTriggered(SimulatedFault fault) {
+    if (pendingFault == fault) {
+      pendingFault = null;
+      return true;
+    }
+    Double probability = faultProbabilities.get(fault);
+    return probability != null && random.nextDouble() < probability;
+  }
+
+  private static void applyLatency(long latencyNanos) {
+    long deadline = System.nanoTime() + latencyNanos;
+    long remaining = latencyNanos;
+    while (remaining > 0) {
+      LockSupport.parkNanos(remaining);
+      remaining = deadline - System.nanoTime();
+    }
+  }
+}
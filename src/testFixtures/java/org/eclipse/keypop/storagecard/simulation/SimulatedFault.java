@@ -0,0 +1,47 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.simulation;
+
+import org.eclipse.keypop.storagecard.SCAuthenticationFailedException;
+import org.eclipse.keypop.storagecard.SCCardCommunicationException;
+import org.eclipse.keypop.storagecard.SCReaderCommunicationException;
+
+/**
+ * Enumeration of the faults that can be injected in a {@link SimulatedCardReader}.
+ *
+ * @since 1.3.0
+ */
+public enum SimulatedFault {
+
+  /**
+   * The APDU is lost between the reader and the card and a {@link SCCardCommunicationException} is
+   * raised.
+   *
+   * @since 1.3.0
+   */
+  CARD_COMMUNICATION,
+
+  /**
+   * The communication with the reader fails and a {@link SCReaderCommunicationException} is raised.
+   *
+   * @since 1.3.0
+   */
+  READER_COMMUNICATION,
+
+  /**
+   * The Mifare Classic authentication fails and a {@link SCAuthenticationFailedException} is
+   * raised. This fault only applies to authentication APDUs.
+   *
+   * @since 1.3.0
+   */
+  AUTHENTICATION
+}
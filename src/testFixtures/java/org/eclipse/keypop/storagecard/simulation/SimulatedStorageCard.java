@@ -0,0 +1,478 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * MIT License which is available at https://opensource.org/licenses/MIT
+ *
+ * SPDX-License-Identifier: MIT
+ ************************************************************************************** */
+package org.eclipse.keypop.storagecard.simulation;
+
+import java.util.Arrays;
+import org.eclipse.keypop.storagecard.MifareClassicKeyType;
+import org.eclipse.keypop.storagecard.card.ProductType;
+
+/**
+ * In-memory simulation of a storage card of any {@link ProductType}, processing the PC/SC storage
+ * card APDUs transmitted by a {@link SimulatedCardReader}.
+ *
+ * <p>The simulation covers:
+ *
+ * <ul>
+ *   <li>Mifare Ultralight: reading of up to 4 pages per command, pages 0 and 1 (UID) being
+ *       read-only.
+ *   <li>Mifare Classic 1K/4K: sector trailers with Key A, Key B and access bits. Access to data
+ *       blocks and sector trailers follows the access conditions of the sector trailer, as
+ *       specified by the Mifare Classic datasheets:
+ *       <ul>
+ *         <li>Key A is never readable and is read as zeros.
+ *         <li>Key B is readable with Key A only when the access condition of the sector trailer is
+ *             000, 001 or 010; otherwise, it is read as zeros. When Key B is readable, it cannot be
+ *             used to access the sector: an authentication with it succeeds but grants no access.
+ *         <li>A sector trailer write only updates the parts (keys, access bits and general purpose
+ *             byte) writable with the authenticated key. It is rejected when no part is writable.
+ *       </ul>
+ *       All sectors are initialized in the transport configuration (C1C2C3 = 001) with both keys
+ *       set to {@code FFFFFFFFFFFF}. The value block commands are not supported.
+ *   <li>ST25/SRT512: 16 blocks of 4 bytes and the system block at address 255.
+ * </ul>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 1.3.0
+ */
+public final class SimulatedStorageCard {
+
+  static final byte[] SW_SUCCESS = {(byte) 0x90, (byte) 0x00};
+  static final byte[] SW_AUTHENTICATION_FAILED = {(byte) 0x63, (byte) 0x00};
+  static final byte[] SW_WRONG_LENGTH = {(byte) 0x67, (byte) 0x00};
+  static final byte[] SW_SECURITY_STATUS_NOT_SATISFIED = {(byte) 0x69, (byte) 0x82};
+  static final byte[] SW_WRONG_ADDRESS = {(byte) 0x6A, (byte) 0x82};
+  static final byte[] SW_INS_NOT_SUPPORTED = {(byte) 0x6D, (byte) 0x00};
+
+  private static final int SYSTEM_BLOCK_ADDRESS = 255;
+  private static final int MIFARE_ULTRALIGHT_READ_ONLY_PAGES = 2;
+  private static final int MIFARE_CLASSIC_KEY_SIZE = 6;
+  private static final int MIFARE_CLASSIC_ACCESS_BITS_SIZE = 4;
+  private static final int MIFARE_CLASSIC_KEY_B_OFFSET =
+      MIFARE_CLASSIC_KEY_SIZE + MIFARE_CLASSIC_ACCESS_BITS_SIZE;
+  private static final byte[] MIFARE_CLASSIC_TRANSPORT_ACCESS_BITS = {
+    (byte) 0xFF, (byte) 0x07, (byte) 0x80, (byte) 0x69
+  };
+
+  private final ProductType productType;
+  private final byte[] uid;
+  private final byte[][] blocks;
+  private final byte[] systemBlock;
+  private int authenticatedSectorNumber = -1;
+  private MifareClassicKeyType authenticatedKeyType;
+
+  /**
+   * Creates a new simulated card with a zero-filled memory.
+   *
+   * @param productType The product type of the card.
+   * @param uid The UID of the card.
+   * @since 1.3.0
+   */
+  public SimulatedStorageCard(ProductType productType, byte[] uid) {
+    this.productType = productType;
+    this.uid = uid.clone();
+    blocks = new byte[productType.getBlockCount()][productType.getBlockSize()];
+    systemBlock = productType.hasSystemBlock() ? new byte[productType.getBlockSize()] : null;
+    if (productType.hasAuthentication()) {
+      byte[] defaultKey = new byte[MIFARE_CLASSIC_KEY_SIZE];
+      Arrays.fill(defaultKey, (byte) 0xFF);
+      for (int sectorNumber = 0; sectorNumber < productType.getSectorCount(); sectorNumber++) {
+        setMifareClassicSectorTrailer(
+            sectorNumber, defaultKey, MIFARE_CLASSIC_TRANSPORT_ACCESS_BITS, defaultKey);
+      }
+    }
+  }
+
+  /**
+   * Returns the product type of the card.
+   *
+   * @return A not null reference.
+   * @since 1.3.0
+   */
+  public ProductType getProductType() {
+    return productType;
+  }
+
+  /**
+   * Returns the UID of the card.
+   *
+   * @return A copy of the UID.
+   * @since 1.3.0
+   */
+  public byte[] getUid() {
+    return uid.clone();
+  }
+
+  /**
+   * Returns the actual content of a block, bypassing any access condition.
+   *
+   * @param blockAddress The block address.
+   * @return A copy of the block content.
+   * @since 1.3.0
+   */
+  public byte[] getBlock(int blockAddress) {
+    return blocks[blockAddress].clone();
+  }
+
+  /**
+   * Sets the content of a block, bypassing any access condition.
+   *
+   * @param blockAddress The block address.
+   * @param data The block content, whose length must be the block size.
+   * @since 1.3.0
+   */
+  public void setBlock(int blockAddress, byte[] data) {
+    System.arraycopy(data, 0, blocks[blockAddress], 0, blocks[blockAddress].length);
+  }
+
+  /**
+   * Returns the actual content of the system block.
+   *
+   * @return A copy of the system block content.
+   * @throws UnsupportedOperationException If the card has no system block.
+   * @since 1.3.0
+   */
+  public byte[] getSystemBlock() {
+    checkSystemBlock();
+    return systemBlock.clone();
+  }
+
+  /**
+   * Sets the content of the system block.
+   *
+   * @param data The system block content, whose length must be the block size.
+   * @throws UnsupportedOperationException If the card has no system block.
+   * @since 1.3.0
+   */
+  public void setSystemBlock(byte[] data) {
+    checkSystemBlock();
+    System.arraycopy(data, 0, systemBlock, 0, systemBlock.length);
+  }
+
+  /**
+   * Sets the content of a Mifare Classic sector trailer, bypassing any access condition.
+   *
+   * @param sectorNumber The sector number.
+   * @param keyA The 6-byte Key A.
+   * @param accessBits The 4 bytes containing the access bits and the general purpose byte.
+   * @param keyB The 6-byte Key B.
+   * @throws UnsupportedOperationException If the card is not a Mifare Classic card.
+   * @since 1.3.0
+   */
+  public void setMifareClassicSectorTrailer(
+      int sectorNumber, byte[] keyA, byte[] accessBits, byte[] keyB) {
+    if (!productType.hasAuthentication()) {
+      throw new UnsupportedOperationException("Not a Mifare Classic card: " + productType);
+    }
+    byte[] trailer = blocks[productType.getSectorTrailerBlockAddress(sectorNumber)];
+    System.arraycopy(keyA, 0, trailer, 0, MIFARE_CLASSIC_KEY_SIZE);
+    System.arraycopy(
+        accessBits, 0, trailer, MIFARE_CLASSIC_KEY_SIZE, MIFARE_CLASSIC_ACCESS_BITS_SIZE);
+    System.arraycopy(keyB, 0, trailer, MIFARE_CLASSIC_KEY_B_OFFSET, MIFARE_CLASSIC_KEY_SIZE);
+  }
+
+  /** Resets the volatile state of the card, as when it leaves the RF field. */
+  void reset() {
+    authenticatedSectorNumber = -1;
+    authenticatedKeyType = null;
+  }
+
+  /**
+   * Authenticates the sector containing the provided block.
+   *
+   * @param blockAddress The block address.
+   * @param keyType The key type.
+   * @param key The key value.
+   * @return The status word.
+   */
+  byte[] authenticate(int blockAddress, MifareClassicKeyType keyType, byte[] key) {
+    reset();
+    if (!productType.hasAuthentication()) {
+      return SW_INS_NOT_SUPPORTED;
+    }
+    if (blockAddress >= blocks.length) {
+      return SW_WRONG_ADDRESS;
+    }
+    int sectorNumber = productType.getSectorOfBlock(blockAddress);
+    byte[] trailer = blocks[productType.getSectorTrailerBlockAddress(sectorNumber)];
+    int keyOffset = keyType == MifareClassicKeyType.KEY_A ? 0 : MIFARE_CLASSIC_KEY_B_OFFSET;
+    if (key == null
+        || !Arrays.equals(
+            key, Arrays.copyOfRange(trailer, keyOffset, keyOffset + MIFARE_CLASSIC_KEY_SIZE))) {
+      return SW_AUTHENTICATION_FAILED;
+    }
+    authenticatedSectorNumber = sectorNumber;
+    authenticatedKeyType = keyType;
+    return SW_SUCCESS;
+  }
+
+  /**
+   * Processes a READ BINARY APDU.
+   *
+   * @param blockAddress The address of the first block to read.
+   * @param length The number of bytes expected.
+   * @return The response APDU.
+   */
+  byte[] readBinary(int blockAddress, int length) {
+    if (productType.hasSystemBlock() && blockAddress == SYSTEM_BLOCK_ADDRESS) {
+      return length == systemBlock.length ? concat(systemBlock, SW_SUCCESS) : SW_WRONG_LENGTH;
+    }
+    int blockSize = productType.getBlockSize();
+    int blockCount = length / blockSize;
+    if (blockCount == 0
+        || length % blockSize != 0
+        || blockCount > productType.getMaxBlocksPerReadCommand()) {
+      return SW_WRONG_LENGTH;
+    }
+    // Mifare Ultralight READ wraps around to page 0 when reading past the last page
+    boolean isWrapping = isMifareUltralightFamily();
+    if (blockAddress >= blocks.length
+        || (!isWrapping && blockAddress + blockCount > blocks.length)) {
+      return SW_WRONG_ADDRESS;
+    }
+    byte[] response = new byte[length + 2];
+    for (int i = 0; i < blockCount; i++) {
+      int address = (blockAddress + i) % blocks.length;
+      if (productType.hasAuthentication() && !isAccessGranted(address, false)) {
+        return SW_SECURITY_STATUS_NOT_SATISFIED;
+      }
+      System.arraycopy(blocks[address], 0, response, i * blockSize, blockSize);
+      if (productType.hasAuthentication() && productType.isSectorTrailer(address)) {
+        maskSectorTrailer(address, response, i * blockSize);
+      }
+    }
+    System.arraycopy(SW_SUCCESS, 0, response, length, 2);
+    return response;
+  }
+
+  /**
+   * Processes a Mifare Ultralight EV1 / NTAG FAST_READ command.
+   *
+   * @param fromBlockAddress The address of the first page to read.
+   * @param toBlockAddress The address of the last page to read.
+   * @return The response APDU.
+   */
+  byte[] fastRead(int fromBlockAddress, int toBlockAddress) {
+    if (!productType.hasFastRead()) {
+      return SW_INS_NOT_SUPPORTED;
+    }
+    if (fromBlockAddress > toBlockAddress || toBlockAddress >= blocks.length) {
+      return SW_WRONG_ADDRESS;
+    }
+    int blockSize = productType.getBlockSize();
+    int length = (toBlockAddress - fromBlockAddress + 1) * blockSize;
+    byte[] response = new byte[length + 2];
+    for (int address = fromBlockAddress; address <= toBlockAddress; address++) {
+      System.arraycopy(
+          blocks[address], 0, response, (address - fromBlockAddress) * blockSize, blockSize);
+    }
+    System.arraycopy(SW_SUCCESS, 0, response, length, 2);
+    return response;
+  }
+
+  /**
+   * Processes an UPDATE BINARY APDU.
+   *
+   * @param blockAddress The address of the block to write.
+   * @param data The data to write.
+   * @return The status word.
+   */
+  byte[] updateBinary(int blockAddress, byte[] data) {
+    if (data.length != productType.getBlockSize()) {
+      return SW_WRONG_LENGTH;
+    }
+    if (productType.hasSystemBlock() && blockAddress == SYSTEM_BLOCK_ADDRESS) {
+      System.arraycopy(data, 0, systemBlock, 0, data.length);
+      return SW_SUCCESS;
+    }
+    if (blockAddress >= blocks.length) {
+      return SW_WRONG_ADDRESS;
+    }
+    if ((isMifareUltralightFamily() && blockAddress < MIFARE_ULTRALIGHT_READ_ONLY_PAGES)
+        || (productType.hasAuthentication()
+            && (blockAddress == 0 || !isAccessGranted(blockAddress, true)))) {
+      return SW_SECURITY_STATUS_NOT_SATISFIED;
+    }
+    if (productType.hasAuthentication() && productType.isSectorTrailer(blockAddress)) {
+      writeSectorTrailer(blockAddress, data);
+    } else {
+      System.arraycopy(data, 0, blocks[blockAddress], 0, data.length);
+    }
+    return SW_SUCCESS;
+  }
+
+  /**
+   * Replaces the unreadable parts of a Mifare Classic sector trailer copied into a response with
+   * zeros.
+   *
+   * @param blockAddress The address of the sector trailer.
+   * @param response The response.
+   * @param offset The offset of the sector trailer in the response.
+   */
+  private void maskSectorTrailer(int blockAddress, byte[] response, int offset) {
+    // Key A is never readable
+    Arrays.fill(response, offset, offset + MIFARE_CLASSIC_KEY_SIZE, (byte) 0);
+    // The access bits are readable with any key granted access to the sector, Key B only when the
+    // access condition makes it readable
+    if (!isKeyBReadable(blockAddress)) {
+      Arrays.fill(
+          response,
+          offset + MIFARE_CLASSIC_KEY_B_OFFSET,
+          offset + MIFARE_CLASSIC_KEY_B_OFFSET + MIFARE_CLASSIC_KEY_SIZE,
+          (byte) 0);
+    }
+  }
+
+  /**
+   * Writes the parts of a Mifare Classic sector trailer that are writable with the authenticated
+   * key, the other parts being left unchanged.
+   *
+   * @param blockAddress The address of the sector trailer.
+   * @param data The sector trailer content.
+   */
+  private void writeSectorTrailer(int blockAddress, byte[] data) {
+    byte[] trailer = blocks[blockAddress];
+    if (isSectorTrailerKeysWritable(blockAddress)) {
+      System.arraycopy(data, 0, trailer, 0, MIFARE_CLASSIC_KEY_SIZE);
+      System.arraycopy(
+          data,
+          MIFARE_CLASSIC_KEY_B_OFFSET,
+          trailer,
+          MIFARE_CLASSIC_KEY_B_OFFSET,
+          MIFARE_CLASSIC_KEY_SIZE);
+    }
+    if (isSectorTrailerAccessBitsWritable(blockAddress)) {
+      System.arraycopy(
+          data,
+          MIFARE_CLASSIC_KEY_SIZE,
+          trailer,
+          MIFARE_CLASSIC_KEY_SIZE,
+          MIFARE_CLASSIC_ACCESS_BITS_SIZE);
+    }
+  }
+
+  /**
+   * Indicates whether Key B of the sector containing a Mifare Classic block is readable, which is
+   * the case for the sector trailer access conditions 000, 001 and 010.
+   *
+   * @param blockAddress The block address.
+   * @return {@code true} if Key B is readable.
+   */
+  private boolean isKeyBReadable(int blockAddress) {
+    int sectorNumber = productType.getSectorOfBlock(blockAddress);
+    return getAccessCondition(productType.getSectorTrailerBlockAddress(sectorNumber)) <= 0x2;
+  }
+
+  /**
+   * Indicates whether the keys of a Mifare Classic sector trailer are writable with the
+   * authenticated key.
+   *
+   * @param blockAddress The address of the sector trailer.
+   * @return {@code true} if the keys are writable.
+   */
+  private boolean isSectorTrailerKeysWritable(int blockAddress) {
+    int condition = getAccessCondition(blockAddress);
+    return authenticatedKeyType == MifareClassicKeyType.KEY_A
+        ? condition == 0x0 || condition == 0x1
+        : condition == 0x4 || condition == 0x3;
+  }
+
+  /**
+   * Indicates whether the access bits of a Mifare Classic sector trailer are writable with the
+   * authenticated key.
+   *
+   * @param blockAddress The address of the sector trailer.
+   * @return {@code true} if the access bits are writable.
+   */
+  private boolean isSectorTrailerAccessBitsWritable(int blockAddress) {
+    int condition = getAccessCondition(blockAddress);
+    return authenticatedKeyType == MifareClassicKeyType.KEY_A
+        ? condition == 0x1
+        : condition == 0x3 || condition == 0x5;
+  }
+
+  /**
+   * Indicates whether the card belongs to the Mifare Ultralight family, NTAG included.
+   *
+   * @return {@code true} if the card is a Mifare Ultralight or NTAG card.
+   */
+  private boolean isMifareUltralightFamily() {
+    return productType == ProductType.MIFARE_ULTRALIGHT || productType.hasFastRead();
+  }
+
+  /**
+   * Indicates whether the current authentication grants the requested access to a Mifare Classic
+   * block.
+   *
+   * @param blockAddress The block address.
+   * @param isWrite {@code true} for a write access, {@code false} for a read access.
+   * @return {@code true} if the access is granted.
+   */
+  private boolean isAccessGranted(int blockAddress, boolean isWrite) {
+    int sectorNumber = productType.getSectorOfBlock(blockAddress);
+    if (sectorNumber != authenticatedSectorNumber) {
+      return false;
+    }
+    boolean isKeyA = authenticatedKeyType == MifareClassicKeyType.KEY_A;
+    if (!isKeyA && isKeyBReadable(blockAddress)) {
+      // A readable Key B cannot be used to access the sector
+      return false;
+    }
+    if (productType.isSectorTrailer(blockAddress)) {
+      return !isWrite
+          || isSectorTrailerKeysWritable(blockAddress)
+          || isSectorTrailerAccessBitsWritable(blockAddress);
+    }
+    int condition = getAccessCondition(blockAddress);
+    if (isWrite) {
+      return isKeyA
+          ? condition == 0x0
+          : condition == 0x0 || condition == 0x4 || condition == 0x6 || condition == 0x3;
+    }
+    return isKeyA ? condition <= 0x2 || condition == 0x4 || condition == 0x6 : condition != 0x7;
+  }
+
+  /**
+   * Returns the access condition C1C2C3 applying to a Mifare Classic block.
+   *
+   * @param blockAddress The block address.
+   * @return The access condition, C1 being the most significant bit.
+   */
+  private int getAccessCondition(int blockAddress) {
+    int sectorNumber = productType.getSectorOfBlock(blockAddress);
+    int firstBlockAddress = productType.getFirstBlockOfSector(sectorNumber);
+    int offset = blockAddress - firstBlockAddress;
+    int group;
+    if (productType.isSectorTrailer(blockAddress)) {
+      group = 3;
+    } else {
+      group = productType.getSectorBlockCount(sectorNumber) == 4 ? offset : offset / 5;
+    }
+    byte[] trailer = blocks[productType.getSectorTrailerBlockAddress(sectorNumber)];
+    int c1 = (trailer[MIFARE_CLASSIC_KEY_SIZE + 1] >> (4 + group)) & 1;
+    int c2 = (trailer[MIFARE_CLASSIC_KEY_SIZE + 2] >> group) & 1;
+    int c3 = (trailer[MIFARE_CLASSIC_KEY_SIZE + 2] >> (4 + group)) & 1;
+    return (c1 << 2) | (c2 << 1) | c3;
+  }
+
+  private void checkSystemBlock() {
+    if (systemBlock == null) {
+      throw new UnsupportedOperationException("No system block for " + productType);
+    }
+  }
+
+  static byte[] concat(byte[] data, byte[] statusWord) {
+    byte[] response = Arrays.copyOf(data, data.length + statusWord.length);
+    System.arraycopy(statusWord, 0, response, data.length, statusWord.length);
+    return response;
+  }
+}